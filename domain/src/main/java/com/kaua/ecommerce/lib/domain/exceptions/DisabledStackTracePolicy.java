@@ -0,0 +1,13 @@
+package com.kaua.ecommerce.lib.domain.exceptions;
+
+final class DisabledStackTracePolicy implements StackTraceSamplingPolicy {
+
+    static final DisabledStackTracePolicy INSTANCE = new DisabledStackTracePolicy();
+
+    private DisabledStackTracePolicy() {}
+
+    @Override
+    public boolean shouldCapture(final Class<? extends Throwable> aType) {
+        return false;
+    }
+}
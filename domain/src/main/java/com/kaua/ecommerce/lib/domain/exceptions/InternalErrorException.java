@@ -14,6 +14,11 @@ public class InternalErrorException extends NoStacktraceException {
         this.statusCode = statusCode;
     }
 
+    private InternalErrorException(final String aTemplate, final Object[] aArgs, final Throwable cause, int statusCode) {
+        super(aTemplate, aArgs, cause);
+        this.statusCode = statusCode;
+    }
+
     public static InternalErrorException with(final String message, int statusCode) {
         return new InternalErrorException(message, statusCode);
     }
@@ -30,6 +35,21 @@ public class InternalErrorException extends NoStacktraceException {
         return new InternalErrorException(message, cause, 0);
     }
 
+    /**
+     * Same as {@code with(aTemplate.formatted(aArgs))} but the message is only formatted when read.
+     */
+    public static InternalErrorException formatted(final String aTemplate, final Object... aArgs) {
+        return new InternalErrorException(aTemplate, aArgs, null, 0);
+    }
+
+    public static InternalErrorException formatted(final Throwable cause, final String aTemplate, final Object... aArgs) {
+        return new InternalErrorException(aTemplate, aArgs, cause, 0);
+    }
+
+    public static InternalErrorException formatted(final int statusCode, final String aTemplate, final Object... aArgs) {
+        return new InternalErrorException(aTemplate, aArgs, null, statusCode);
+    }
+
     public int getStatusCode() {
         return statusCode;
     }
@@ -1,12 +1,116 @@
 package com.kaua.ecommerce.lib.domain.exceptions;
 
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Base exception that skips the stack trace capture.
+ * <p>A {@link StackTraceSamplingPolicy} can be configured to still capture the stack trace of a
+ * sample of the instances, see its documentation for the available settings.</p>
+ */
 public class NoStacktraceException extends RuntimeException {
 
+    private static final StackTraceSamplingPolicy SAMPLING_POLICY = resolveSamplingPolicy();
+    private static final boolean SAMPLING_ENABLED = SAMPLING_POLICY != StackTraceSamplingPolicy.disabled();
+
+    private final String template;
+    private final Object[] args;
+    private final boolean preallocated;
+    private String formattedMessage;
+
     public NoStacktraceException(final String message) {
         this(message, null);
     }
 
     public NoStacktraceException(final String message, final Throwable cause) {
-        super(message, cause, true, false);
+        this(message, cause, true);
+    }
+
+    /**
+     * @param enableSuppression pass {@code false} for instances that are thrown more than once,
+     *                          otherwise every {@link #addSuppressed(Throwable)} made by a catch site
+     *                          (try-with-resources, Reactor's {@code block()}) would pile up on the
+     *                          shared instance, such instances are never sampled either
+     */
+    protected NoStacktraceException(final String message, final Throwable cause, final boolean enableSuppression) {
+        super(message, cause, enableSuppression, SAMPLING_ENABLED && enableSuppression);
+        this.template = null;
+        this.args = null;
+        this.preallocated = !enableSuppression;
+    }
+
+    /**
+     * Creates an exception whose message is only formatted when {@link #getMessage()} is called,
+     * so building an exception that is never inspected costs no string work.
+     *
+     * @param aTemplate a {@link String#format(String, Object...)} template
+     * @param aArgs     the template arguments, resolved through {@link #resolveArgument(Object)}
+     * @param cause     the cause, may be null
+     */
+    protected NoStacktraceException(final String aTemplate, final Object[] aArgs, final Throwable cause) {
+        super(null, cause, true, SAMPLING_ENABLED);
+        this.template = aTemplate;
+        this.args = aArgs;
+        this.preallocated = false;
+    }
+
+    @Override
+    public String getMessage() {
+        if (this.template == null) {
+            return super.getMessage();
+        }
+
+        var aMessage = this.formattedMessage;
+        if (aMessage == null) {
+            final var aResolved = new Object[this.args.length];
+            for (int i = 0; i < aResolved.length; i++) {
+                aResolved[i] = resolveArgument(this.args[i]);
+            }
+            aMessage = this.template.formatted(aResolved);
+            this.formattedMessage = aMessage;
+        }
+        return aMessage;
+    }
+
+    /**
+     * @return {@code true} for shared instances built once and thrown many times, their message never
+     * carries request data
+     */
+    public boolean isPreallocated() {
+        return this.preallocated;
+    }
+
+    protected Object resolveArgument(final Object aArgument) {
+        return aArgument instanceof Class<?> aClass ? aClass.getSimpleName() : aArgument;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // only reached when sampling is enabled, otherwise the stack trace is not writable
+        if (SAMPLING_POLICY.shouldCapture(getClass())) {
+            return super.fillInStackTrace();
+        }
+        return this;
+    }
+
+    private static StackTraceSamplingPolicy resolveSamplingPolicy() {
+        try {
+            final var aProvided = ServiceLoader.load(StackTraceSamplingPolicy.class).findFirst();
+            if (aProvided.isPresent()) {
+                return aProvided.get();
+            }
+        } catch (final ServiceConfigurationError ignored) {
+            // falls back to the system properties
+        }
+
+        final var aSampleRate = Integer.getInteger(StackTraceSamplingPolicy.SAMPLE_RATE_PROPERTY, 0);
+        if (aSampleRate < 1) {
+            return StackTraceSamplingPolicy.disabled();
+        }
+        final var aMaxPerSecond = Integer.getInteger(
+                StackTraceSamplingPolicy.MAX_PER_SECOND_PROPERTY,
+                StackTraceSamplingPolicy.DEFAULT_MAX_PER_SECOND
+        );
+        return StackTraceSamplingPolicy.oneIn(aSampleRate, Math.max(1, aMaxPerSecond));
     }
 }
@@ -2,10 +2,7 @@ package com.kaua.ecommerce.lib.domain.exceptions;
 
 import com.kaua.ecommerce.lib.domain.AggregateRoot;
 import com.kaua.ecommerce.lib.domain.Identifier;
-import com.kaua.ecommerce.lib.domain.validation.Error;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.function.Supplier;
 
 public class NotFoundException extends NoStacktraceException {
@@ -16,22 +13,40 @@ public class NotFoundException extends NoStacktraceException {
         super(aMessage);
     }
 
+    protected NotFoundException(final String aTemplate, final Object... aArgs) {
+        super(aTemplate, aArgs, null);
+    }
+
+    protected NotFoundException(final String aMessage, final boolean enableSuppression) {
+        super(aMessage, null, enableSuppression);
+    }
+
     public static NotFoundException with(final String aMessage) {
         return new NotFoundException(aMessage);
     }
 
+    /**
+     * Creates an immutable instance meant to be built once and thrown on every miss, for
+     * control-flow paths such as 404 lookups. It has no stack trace, no cause and suppression is
+     * disabled, so sharing it between threads is safe.
+     */
+    public static NotFoundException preallocated(final String aMessage) {
+        return new NotFoundException(aMessage, false);
+    }
+
+    /**
+     * Same as {@code with(aTemplate.formatted(aArgs))} but the message is only formatted when read.
+     */
+    public static NotFoundException formatted(final String aTemplate, final Object... aArgs) {
+        return new NotFoundException(aTemplate, aArgs);
+    }
+
     public static Supplier<NotFoundException> with(
             final String anAggregate,
             final String aIdentifierField,
             final String aIdentifierValue
     ) {
-        final var aError = ERROR_MESSAGE.formatted(
-                anAggregate,
-                aIdentifierField,
-                aIdentifierValue
-        );
-
-        return () -> new NotFoundException(aError);
+        return () -> new NotFoundException(ERROR_MESSAGE, anAggregate, aIdentifierField, aIdentifierValue);
     }
 
     public static Supplier<NotFoundException> with(
@@ -39,7 +54,7 @@ public class NotFoundException extends NoStacktraceException {
             final String aIdentifierField,
             final String aIdentifierValue
     ) {
-        return with(anAggregate.getSimpleName(), aIdentifierField, aIdentifierValue);
+        return () -> new NotFoundException(ERROR_MESSAGE, anAggregate, aIdentifierField, aIdentifierValue);
     }
 
     public static Supplier<NotFoundException> with(
@@ -47,7 +62,7 @@ public class NotFoundException extends NoStacktraceException {
             final String aIdentifierField,
             final Identifier<?> id
     ) {
-        return with(anAggregate.getSimpleName(), aIdentifierField, id.value().toString());
+        return () -> new NotFoundException(ERROR_MESSAGE, anAggregate, aIdentifierField, id);
     }
 
     public static Supplier<NotFoundException> with(
@@ -61,13 +76,21 @@ public class NotFoundException extends NoStacktraceException {
             final Class<? extends AggregateRoot<?>> anAggregate,
             final String aId
     ) {
-        return with(anAggregate.getSimpleName(), "id", aId);
+        return with(anAggregate, "id", aId);
     }
 
     public static Supplier<NotFoundException> with(
             final Class<? extends AggregateRoot<?>> anAggregate,
             final Identifier<?> id
     ) {
-        return with(anAggregate.getSimpleName(), "id", id.value().toString());
+        return with(anAggregate, "id", id);
+    }
+
+    @Override
+    protected Object resolveArgument(final Object aArgument) {
+        if (aArgument instanceof Identifier<?> aIdentifier) {
+            return aIdentifier.value();
+        }
+        return super.resolveArgument(aArgument);
     }
 }
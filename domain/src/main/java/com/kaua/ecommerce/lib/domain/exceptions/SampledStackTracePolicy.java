@@ -0,0 +1,62 @@
+package com.kaua.ecommerce.lib.domain.exceptions;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+final class SampledStackTracePolicy implements StackTraceSamplingPolicy {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int sampleRate;
+    private final int maxPerSecond;
+    private final LongSupplier nanoClock;
+    private final ClassValue<Counters> counters = new ClassValue<>() {
+        @Override
+        protected Counters computeValue(final Class<?> type) {
+            return new Counters();
+        }
+    };
+
+    SampledStackTracePolicy(final int aSampleRate, final int aMaxPerSecond, final LongSupplier aNanoClock) {
+        if (aSampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate should be greater than 0");
+        }
+        if (aMaxPerSecond < 1) {
+            throw new IllegalArgumentException("maxPerSecond should be greater than 0");
+        }
+        this.sampleRate = aSampleRate;
+        this.maxPerSecond = aMaxPerSecond;
+        this.nanoClock = aNanoClock;
+    }
+
+    @Override
+    public boolean shouldCapture(final Class<? extends Throwable> aType) {
+        final var aCounters = this.counters.get(aType);
+        if (aCounters.instances.getAndIncrement() % this.sampleRate != 0) {
+            return false;
+        }
+        return aCounters.tryAcquire(this.nanoClock.getAsLong() / NANOS_PER_SECOND, this.maxPerSecond);
+    }
+
+    private static final class Counters {
+        private final AtomicLong instances = new AtomicLong();
+        // upper 32 bits: second of the window, lower 32 bits: captures in that second
+        private final AtomicLong window = new AtomicLong();
+
+        private boolean tryAcquire(final long aSecond, final int aMax) {
+            final var aSecondBits = aSecond << 32;
+            while (true) {
+                final var aCurrent = this.window.get();
+                final var aNext = (aCurrent & 0xFFFFFFFF00000000L) == aSecondBits
+                        ? aCurrent + 1
+                        : aSecondBits | 1;
+                if ((aNext & 0xFFFFFFFFL) > aMax) {
+                    return false;
+                }
+                if (this.window.compareAndSet(aCurrent, aNext)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.kaua.ecommerce.lib.domain.exceptions;
+
+/**
+ * Decides whether a {@link NoStacktraceException} captures its stack trace.
+ * <p>Disabled by default. Enable it with the system properties
+ * {@value #SAMPLE_RATE_PROPERTY} (capture 1 in N instances of each exception class) and
+ * {@value #MAX_PER_SECOND_PROPERTY} (cap of captures per second and class, default
+ * {@value #DEFAULT_MAX_PER_SECOND}), or register an implementation through
+ * {@code META-INF/services/com.kaua.ecommerce.lib.domain.exceptions.StackTraceSamplingPolicy},
+ * which takes precedence over the properties. The policy is resolved once, when the first
+ * {@link NoStacktraceException} is loaded.</p>
+ * <p>Implementations are called on every exception construction and must be thread-safe and cheap.</p>
+ */
+@FunctionalInterface
+public interface StackTraceSamplingPolicy {
+
+    String SAMPLE_RATE_PROPERTY = "ecommerce.exceptions.stacktrace.sample-rate";
+    String MAX_PER_SECOND_PROPERTY = "ecommerce.exceptions.stacktrace.max-per-second";
+    int DEFAULT_MAX_PER_SECOND = 10;
+
+    boolean shouldCapture(Class<? extends Throwable> aType);
+
+    static StackTraceSamplingPolicy disabled() {
+        return DisabledStackTracePolicy.INSTANCE;
+    }
+
+    /**
+     * @param aSampleRate   captures the stack trace of 1 in every {@code aSampleRate} instances of each class
+     * @param aMaxPerSecond maximum captures per second for each class
+     * @return a thread-safe sampling policy
+     */
+    static StackTraceSamplingPolicy oneIn(final int aSampleRate, final int aMaxPerSecond) {
+        return new SampledStackTracePolicy(aSampleRate, aMaxPerSecond, System::nanoTime);
+    }
+}
@@ -0,0 +1,42 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Position in a keyset (cursor) pagination: the sort-key values of the row at the page boundary
+ * and whether the next page is read after or before it.
+ * <p>Supported value types are {@link String}, {@link Long} (and {@link Integer}/{@link Short},
+ * decoded as {@link Long}), {@link java.time.Instant} (microsecond precision), {@link java.util.UUID},
+ * {@link Boolean} and {@code null}.</p>
+ *
+ * @param direction which side of the boundary row to read
+ * @param values    the sort-key values of the boundary row, in sort-key order
+ */
+public record Cursor(
+        Direction direction,
+        List<Object> values
+) {
+
+    public Cursor {
+        values = Collections.unmodifiableList(Arrays.asList(values.toArray()));
+    }
+
+    public static Cursor after(final Object... aValues) {
+        return new Cursor(Direction.AFTER, Arrays.asList(aValues));
+    }
+
+    public static Cursor before(final Object... aValues) {
+        return new Cursor(Direction.BEFORE, Arrays.asList(aValues));
+    }
+
+    public boolean isBackward() {
+        return direction == Direction.BEFORE;
+    }
+
+    public enum Direction {
+        AFTER,
+        BEFORE
+    }
+}
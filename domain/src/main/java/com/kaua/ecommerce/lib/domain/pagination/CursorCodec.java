@@ -0,0 +1,232 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import com.kaua.ecommerce.lib.domain.validation.Error;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes a {@link Cursor} into an opaque, URL-safe and tamper-proof string.
+ * <p>The values are written in a compact binary form (varints, raw UUID bytes, epoch microseconds)
+ * followed by a truncated HMAC-SHA256 of the payload, and the whole is Base64url encoded without
+ * padding. A cursor for a {@code (createdAt, uuid)} key is 55 characters long.</p>
+ * <p>Thread-safe.</p>
+ */
+public final class CursorCodec {
+
+    public static final String INVALID_CURSOR_MESSAGE = "is invalid";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_LENGTH = 16;
+    private static final int MAC_LENGTH = 12;
+    private static final byte VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte INSTANT = 3;
+    private static final byte UUID_TYPE = 4;
+    private static final byte TRUE = 5;
+    private static final byte FALSE = 6;
+    // instants beyond the epoch microseconds range, such as Instant.MAX
+    private static final byte WIDE_INSTANT = 7;
+
+    private static final long MAX_MICROS_EPOCH_SECOND = Long.MAX_VALUE / 1_000_000 - 1;
+    private static final long MIN_MICROS_EPOCH_SECOND = Long.MIN_VALUE / 1_000_000;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> mac;
+
+    private CursorCodec(final byte[] aSecret) {
+        final var aKey = new SecretKeySpec(aSecret, ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                final var aMac = Mac.getInstance(ALGORITHM);
+                aMac.init(aKey);
+                return aMac;
+            } catch (final GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * @param aSecret the HMAC key, at least 16 bytes, shared by every instance serving the same cursors
+     * @return a new {@link CursorCodec}
+     */
+    public static CursorCodec create(final byte[] aSecret) {
+        if (aSecret == null || aSecret.length < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException("secret should have at least %d bytes".formatted(MIN_SECRET_LENGTH));
+        }
+        return new CursorCodec(aSecret.clone());
+    }
+
+    public String encode(final Cursor aCursor) {
+        final var aOutput = new ByteArrayOutputStream(64);
+        aOutput.write(VERSION);
+        aOutput.write(aCursor.direction().ordinal());
+        writeVarint(aOutput, aCursor.values().size());
+        for (final Object aValue : aCursor.values()) {
+            writeValue(aOutput, aValue);
+        }
+
+        final var aPayload = aOutput.toByteArray();
+        final var aSigned = Arrays.copyOf(aPayload, aPayload.length + MAC_LENGTH);
+        System.arraycopy(sign(aPayload, aPayload.length), 0, aSigned, aPayload.length, MAC_LENGTH);
+        return ENCODER.encodeToString(aSigned);
+    }
+
+    /**
+     * @param aEncoded a cursor returned by {@link #encode(Cursor)}
+     * @return the decoded {@link Cursor}
+     * @throws ValidationException when the cursor is malformed or was not signed with this secret
+     */
+    public Cursor decode(final String aEncoded) {
+        try {
+            final var aSigned = DECODER.decode(aEncoded);
+            final var aPayloadLength = aSigned.length - MAC_LENGTH;
+            if (aPayloadLength < 3 || !MessageDigest.isEqual(
+                    Arrays.copyOf(sign(aSigned, aPayloadLength), MAC_LENGTH),
+                    Arrays.copyOfRange(aSigned, aPayloadLength, aSigned.length))) {
+                throw invalid();
+            }
+
+            final var aInput = ByteBuffer.wrap(aSigned, 0, aPayloadLength);
+            if (aInput.get() != VERSION) {
+                throw invalid();
+            }
+            final var aDirection = Cursor.Direction.values()[aInput.get()];
+            final var aSize = readVarint(aInput);
+            if (aSize > aInput.remaining()) {
+                throw invalid();
+            }
+            final var aValues = new ArrayList<>((int) aSize);
+            for (int i = 0; i < aSize; i++) {
+                aValues.add(readValue(aInput));
+            }
+            if (aInput.hasRemaining()) {
+                throw invalid();
+            }
+            return new Cursor(aDirection, aValues);
+        } catch (final ValidationException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    private byte[] sign(final byte[] aPayload, final int aLength) {
+        final var aMac = this.mac.get();
+        aMac.update(aPayload, 0, aLength);
+        return aMac.doFinal();
+    }
+
+    private static void writeValue(final ByteArrayOutputStream aOutput, final Object aValue) {
+        if (aValue == null) {
+            aOutput.write(NULL);
+        } else if (aValue instanceof String aString) {
+            final var aBytes = aString.getBytes(StandardCharsets.UTF_8);
+            aOutput.write(STRING);
+            writeVarint(aOutput, aBytes.length);
+            aOutput.writeBytes(aBytes);
+        } else if (aValue instanceof Long || aValue instanceof Integer || aValue instanceof Short) {
+            aOutput.write(LONG);
+            writeVarint(aOutput, zigZag(((Number) aValue).longValue()));
+        } else if (aValue instanceof Instant aInstant) {
+            final var aSeconds = aInstant.getEpochSecond();
+            if (aSeconds > MAX_MICROS_EPOCH_SECOND || aSeconds < MIN_MICROS_EPOCH_SECOND) {
+                aOutput.write(WIDE_INSTANT);
+                writeVarint(aOutput, zigZag(aSeconds));
+                writeVarint(aOutput, aInstant.getNano() / 1_000);
+            } else {
+                aOutput.write(INSTANT);
+                writeVarint(aOutput, zigZag(ChronoUnit.MICROS.between(Instant.EPOCH, aInstant)));
+            }
+        } else if (aValue instanceof UUID aUuid) {
+            aOutput.write(UUID_TYPE);
+            aOutput.writeBytes(ByteBuffer.allocate(16)
+                    .putLong(aUuid.getMostSignificantBits())
+                    .putLong(aUuid.getLeastSignificantBits())
+                    .array());
+        } else if (aValue instanceof Boolean aBoolean) {
+            aOutput.write(aBoolean ? TRUE : FALSE);
+        } else {
+            throw new IllegalArgumentException("unsupported cursor value type " + aValue.getClass().getName());
+        }
+    }
+
+    private static Object readValue(final ByteBuffer aInput) {
+        return switch (aInput.get()) {
+            case NULL -> null;
+            case STRING -> {
+                final var aLength = readVarint(aInput);
+                if (aLength > aInput.remaining()) {
+                    throw invalid();
+                }
+                final var aBytes = new byte[(int) aLength];
+                aInput.get(aBytes);
+                yield new String(aBytes, StandardCharsets.UTF_8);
+            }
+            case LONG -> unZigZag(readVarint(aInput));
+            case INSTANT -> Instant.EPOCH.plus(unZigZag(readVarint(aInput)), ChronoUnit.MICROS);
+            case WIDE_INSTANT -> {
+                final var aSeconds = unZigZag(readVarint(aInput));
+                final var aMicros = readVarint(aInput);
+                if (aMicros >= 1_000_000) {
+                    throw invalid();
+                }
+                yield Instant.ofEpochSecond(aSeconds, aMicros * 1_000);
+            }
+            case UUID_TYPE -> new UUID(aInput.getLong(), aInput.getLong());
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            default -> throw invalid();
+        };
+    }
+
+    private static void writeVarint(final ByteArrayOutputStream aOutput, long aValue) {
+        while ((aValue & ~0x7FL) != 0) {
+            aOutput.write((int) ((aValue & 0x7F) | 0x80));
+            aValue >>>= 7;
+        }
+        aOutput.write((int) aValue);
+    }
+
+    private static long readVarint(final ByteBuffer aInput) {
+        long aValue = 0;
+        for (int aShift = 0; aShift < 64; aShift += 7) {
+            final var b = aInput.get();
+            aValue |= (long) (b & 0x7F) << aShift;
+            if ((b & 0x80) == 0) {
+                return aValue;
+            }
+        }
+        throw invalid();
+    }
+
+    private static long zigZag(final long aValue) {
+        return (aValue << 1) ^ (aValue >> 63);
+    }
+
+    private static long unZigZag(final long aValue) {
+        return (aValue >>> 1) ^ -(aValue & 1);
+    }
+
+    private static ValidationException invalid() {
+        return ValidationException.with(new Error("cursor", INVALID_CURSOR_MESSAGE));
+    }
+}
@@ -0,0 +1,85 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a keyset (cursor) pagination.
+ *
+ * @param limit the requested page size
+ * @param next  encoded cursor of the following page, {@code null} on the last page
+ * @param prev  encoded cursor of the preceding page, {@code null} on the first page
+ * @param items the items of the page, always in the query sort order
+ */
+public record CursorPagination<T>(
+        int limit,
+        String next,
+        String prev,
+        List<T> items
+) {
+
+    /**
+     * Builds the page from the rows read with a {@code limit + 1} query, the extra row only tells
+     * whether there is more to read.
+     * <p>For a backward cursor ({@link Cursor#isBackward()}) the query must read with the inverted
+     * sort order, the rows are flipped back here.</p>
+     *
+     * @param aRows      the rows read, at most {@code aLimit + 1}
+     * @param aLimit     the page size
+     * @param aRequested the decoded cursor of the request, {@code null} for the first page
+     * @param aSortKey   extracts the sort-key values of a row, in sort-key order
+     * @param aCodec     the codec that signs the returned cursors
+     * @return the page
+     */
+    public static <T> CursorPagination<T> from(
+            final List<T> aRows,
+            final int aLimit,
+            final Cursor aRequested,
+            final Function<T, List<Object>> aSortKey,
+            final CursorCodec aCodec
+    ) {
+        final var hasMore = aRows.size() > aLimit;
+        final var aBackward = aRequested != null && aRequested.isBackward();
+
+        List<T> aItems = hasMore ? aRows.subList(0, aLimit) : aRows;
+        if (aBackward) {
+            aItems = new ArrayList<>(aItems);
+            Collections.reverse(aItems);
+        }
+
+        if (aItems.isEmpty()) {
+            return new CursorPagination<>(aLimit, null, null, List.of());
+        }
+
+        final var hasNext = aBackward || hasMore;
+        final var hasPrev = aBackward ? hasMore : aRequested != null;
+
+        return new CursorPagination<>(
+                aLimit,
+                hasNext ? aCodec.encode(new Cursor(Cursor.Direction.AFTER, aSortKey.apply(aItems.get(aItems.size() - 1)))) : null,
+                hasPrev ? aCodec.encode(new Cursor(Cursor.Direction.BEFORE, aSortKey.apply(aItems.get(0)))) : null,
+                List.copyOf(aItems)
+        );
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    public boolean hasPrev() {
+        return prev != null;
+    }
+
+    public <R> CursorPagination<R> map(final Function<T, R> mapper) {
+        final List<R> aNewList = this.items.stream().map(mapper).toList();
+
+        return new CursorPagination<>(
+                limit(),
+                next(),
+                prev(),
+                aNewList
+        );
+    }
+}
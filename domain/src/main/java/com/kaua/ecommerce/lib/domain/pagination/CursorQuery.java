@@ -0,0 +1,41 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import com.kaua.ecommerce.lib.domain.utils.Period;
+
+import java.util.Optional;
+
+/**
+ * Keyset counterpart of {@link SearchQuery}: instead of a page number it carries the opaque cursor
+ * returned in {@link CursorPagination#next()} or {@link CursorPagination#prev()}, so reading any page
+ * is a bounded index seek instead of an {@code OFFSET} scan.
+ *
+ * @param limit  maximum number of items of the page
+ * @param cursor the encoded cursor, {@code null} for the first page
+ */
+public record CursorQuery(
+        int limit,
+        String cursor,
+        String terms,
+        String sort,
+        String direction,
+        Period period
+) {
+
+    public CursorQuery(
+            int limit,
+            String cursor,
+            String terms,
+            String sort,
+            String direction
+    ) {
+        this(limit, cursor, terms, sort, direction, null);
+    }
+
+    public Optional<String> getCursor() {
+        return Optional.ofNullable(cursor).filter(it -> !it.isBlank());
+    }
+
+    public Optional<Period> getPeriod() {
+        return Optional.ofNullable(period);
+    }
+}
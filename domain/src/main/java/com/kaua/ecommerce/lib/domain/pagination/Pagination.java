@@ -1,6 +1,14 @@
 package com.kaua.ecommerce.lib.domain.pagination;
 
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 public record Pagination<T>(
@@ -8,6 +16,23 @@ public record Pagination<T>(
         List<T> items
 ) {
 
+    /**
+     * Builds a count-free page from a query that read {@code perPage + 1} rows, the extra row only
+     * tells whether there is a next page.
+     *
+     * @param currentPage the 0-based page number
+     * @param perPage     the page size
+     * @param rows        the rows read, at most {@code perPage + 1}
+     * @return a {@link Pagination} with {@link PaginationMetadata.Accuracy#UNKNOWN} totals
+     */
+    public static <T> Pagination<T> withHasNext(final int currentPage, final int perPage, final List<T> rows) {
+        final var hasNext = rows.size() > perPage;
+        return new Pagination<>(
+                PaginationMetadata.hasNext(currentPage, perPage, hasNext),
+                hasNext ? rows.subList(0, perPage) : rows
+        );
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items.stream().map(mapper).toList();
 
@@ -16,4 +41,102 @@ public record Pagination<T>(
                 aNewList
         );
     }
+
+    /**
+     * Same as {@link #map(Function)} but without copying: the items are a read-only view that applies
+     * the mapper on every access. Meant for results that are iterated once, such as serialization;
+     * use {@link #map(Function)} when the items are read many times or the mapper is expensive.
+     *
+     * @param mapper a side-effect free mapper
+     * @return a {@link Pagination} over a mapped view of the items
+     */
+    public <R> Pagination<R> mapLazy(final Function<T, R> mapper) {
+        return new Pagination<>(
+                metadata(),
+                new MappedView<>(this.items, mapper)
+        );
+    }
+
+    /**
+     * Same as {@link #map(Function)} but runs the mapper on the executor, for expensive per-item
+     * enrichment on large pages. The items keep their order. The page is split in one chunk per
+     * available processor (times 4) so cheap mappers do not pay a task per item.
+     *
+     * @param mapper   a thread-safe mapper
+     * @param executor the executor running the chunks
+     * @return a {@link Pagination} with the mapped items
+     */
+    public <R> Pagination<R> mapParallel(final Function<T, R> mapper, final Executor executor) {
+        final var aSize = this.items.size();
+        if (aSize <= 1) {
+            return map(mapper);
+        }
+
+        final var aSource = this.items instanceof RandomAccess ? this.items : List.copyOf(this.items);
+        final var aResult = new Object[aSize];
+        final var aChunks = Math.min(aSize, Runtime.getRuntime().availableProcessors() * 4);
+        final var aFutures = new CompletableFuture<?>[aChunks];
+
+        for (int i = 0; i < aChunks; i++) {
+            final var aFrom = (int) ((long) aSize * i / aChunks);
+            final var aTo = (int) ((long) aSize * (i + 1) / aChunks);
+            aFutures[i] = CompletableFuture.runAsync(() -> {
+                for (int j = aFrom; j < aTo; j++) {
+                    aResult[j] = mapper.apply(aSource.get(j));
+                }
+            }, executor);
+        }
+
+        try {
+            CompletableFuture.allOf(aFutures).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException ex) {
+                throw ex;
+            }
+            throw e;
+        }
+
+        @SuppressWarnings("unchecked") final List<R> aNewList = (List<R>) Collections.unmodifiableList(Arrays.asList(aResult));
+        return new Pagination<>(
+                metadata(),
+                aNewList
+        );
+    }
+
+    private static final class MappedView<T, R> extends AbstractList<R> {
+
+        private final List<T> source;
+        private final Function<T, R> mapper;
+
+        private MappedView(final List<T> source, final Function<T, R> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public R get(final int index) {
+            return this.mapper.apply(this.source.get(index));
+        }
+
+        @Override
+        public Iterator<R> iterator() {
+            final var aIterator = this.source.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return aIterator.hasNext();
+                }
+
+                @Override
+                public R next() {
+                    return mapper.apply(aIterator.next());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return this.source.size();
+        }
+    }
 }
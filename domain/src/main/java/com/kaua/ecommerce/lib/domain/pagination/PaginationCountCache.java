@@ -0,0 +1,174 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keeps the {@code COUNT(*)} of listings out of the request path.
+ * <p>Counts are computed on an executor and cached per {@link SearchQueryKey#withoutPaging()}, so
+ * every page and ordering of the same listing shares one count. {@link #metadata(SearchQuery, boolean)} never waits for a count:
+ * it answers exact totals when a fresh count is cached, estimated totals from a stale count while it
+ * is recomputed, and count-free metadata while the first count is still running. Concurrent requests
+ * for the same listing share a single count.</p>
+ * <p>A count is exact for {@code ttl}, served as an estimate for one more {@code ttl} and then dropped.
+ * At most {@code maxEntries} counts are kept, the least recently used one is evicted first.</p>
+ */
+public final class PaginationCountCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final ToLongFunction<SearchQuery> counter;
+    private final Executor executor;
+    private final long ttlNanos;
+    private final long expiryNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+    private final Map<SearchQueryKey, CachedCount> counts;
+    private final Map<SearchQueryKey, CompletableFuture<Long>> running = new ConcurrentHashMap<>();
+
+    PaginationCountCache(
+            final ToLongFunction<SearchQuery> aCounter,
+            final Executor aExecutor,
+            final Duration aTtl,
+            final int aMaxEntries,
+            final LongSupplier aNanoClock
+    ) {
+        this.counter = aCounter;
+        this.executor = aExecutor;
+        this.ttlNanos = aTtl.toNanos();
+        this.expiryNanos = this.ttlNanos > Long.MAX_VALUE / 2 ? Long.MAX_VALUE : 2 * this.ttlNanos;
+        this.maxEntries = aMaxEntries;
+        this.nanoClock = aNanoClock;
+        this.counts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<SearchQueryKey, CachedCount> eldest) {
+                return size() > PaginationCountCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param aCounter  the blocking count
+     * @param aExecutor runs the counts
+     * @param aTtl      how long a count is considered exact
+     * @return a new {@link PaginationCountCache}
+     */
+    public static PaginationCountCache create(
+            final ToLongFunction<SearchQuery> aCounter,
+            final Executor aExecutor,
+            final Duration aTtl
+    ) {
+        return new PaginationCountCache(aCounter, aExecutor, aTtl, DEFAULT_MAX_ENTRIES, System::nanoTime);
+    }
+
+    /**
+     * Builds the metadata of a page without waiting for the count.
+     *
+     * @param aQuery   the query of the page
+     * @param aHasNext whether the listing query found a next page, usually with {@code perPage + 1} rows
+     * @return exact, estimated or count-free metadata, see the class documentation
+     */
+    public PaginationMetadata metadata(final SearchQuery aQuery, final boolean aHasNext) {
+        final var aKey = keyOf(aQuery);
+        final var aCached = cached(aKey);
+
+        if (aCached != null && !isStale(aCached)) {
+            return PaginationMetadata.exact(aQuery.page(), aQuery.perPage(), aCached.count());
+        }
+
+        refresh(aKey, aQuery);
+        return aCached == null
+                ? PaginationMetadata.hasNext(aQuery.page(), aQuery.perPage(), aHasNext)
+                : PaginationMetadata.estimated(aQuery.page(), aQuery.perPage(), aCached.count(), aHasNext);
+    }
+
+    /**
+     * @param aQuery the query of the listing
+     * @return the cached count when fresh, otherwise the running or a new count
+     */
+    public CompletableFuture<Long> count(final SearchQuery aQuery) {
+        final var aKey = keyOf(aQuery);
+        final var aCached = cached(aKey);
+        if (aCached != null && !isStale(aCached)) {
+            return CompletableFuture.completedFuture(aCached.count());
+        }
+        return refresh(aKey, aQuery);
+    }
+
+    public void invalidate(final SearchQuery aQuery) {
+        synchronized (this.counts) {
+            this.counts.remove(keyOf(aQuery));
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (this.counts) {
+            this.counts.clear();
+        }
+    }
+
+    int size() {
+        synchronized (this.counts) {
+            return this.counts.size();
+        }
+    }
+
+    private CompletableFuture<Long> refresh(final SearchQueryKey aKey, final SearchQuery aQuery) {
+        final var aPromise = new CompletableFuture<Long>();
+        final var aRunning = this.running.putIfAbsent(aKey, aPromise);
+        if (aRunning != null) {
+            return aRunning;
+        }
+
+        try {
+            this.executor.execute(() -> {
+                try {
+                    final var aCount = this.counter.applyAsLong(aQuery);
+                    synchronized (this.counts) {
+                        this.counts.put(aKey, new CachedCount(aCount, this.nanoClock.getAsLong()));
+                    }
+                    this.running.remove(aKey, aPromise);
+                    aPromise.complete(aCount);
+                } catch (final Throwable t) {
+                    this.running.remove(aKey, aPromise);
+                    aPromise.completeExceptionally(t);
+                }
+            });
+        } catch (final RuntimeException e) {
+            this.running.remove(aKey, aPromise);
+            aPromise.completeExceptionally(e);
+        }
+        return aPromise;
+    }
+
+    /**
+     * @return the cached count, {@code null} when absent or older than twice the ttl
+     */
+    private CachedCount cached(final SearchQueryKey aKey) {
+        synchronized (this.counts) {
+            final var aCached = this.counts.get(aKey);
+            if (aCached != null && this.nanoClock.getAsLong() - aCached.computedAt() > this.expiryNanos) {
+                this.counts.remove(aKey);
+                return null;
+            }
+            return aCached;
+        }
+    }
+
+    private boolean isStale(final CachedCount aCached) {
+        return this.nanoClock.getAsLong() - aCached.computedAt() > this.ttlNanos;
+    }
+
+    private static SearchQueryKey keyOf(final SearchQuery aQuery) {
+        return SearchQueryKey.of(aQuery).withoutPaging();
+    }
+
+    private record CachedCount(long count, long computedAt) {
+    }
+}
@@ -1,9 +1,84 @@
 package com.kaua.ecommerce.lib.domain.pagination;
 
+/**
+ * @param currentPage the 0-based page number
+ * @param perPage     the page size
+ * @param totalPages  total of pages, {@code -1} when the total is {@link Accuracy#UNKNOWN}
+ * @param totalItems  total of items, {@code -1} when the total is {@link Accuracy#UNKNOWN}
+ * @param hasNext     whether a page exists after this one, always exact
+ * @param accuracy    how the totals were obtained, a {@code null} accuracy comes from a producer that predates
+ *                    these fields: it is read as {@link Accuracy#EXACT} and {@code hasNext} is derived from the totals
+ */
 public record PaginationMetadata(
         int currentPage,
         int perPage,
         int totalPages,
-        long totalItems
+        long totalItems,
+        boolean hasNext,
+        Accuracy accuracy
 ) {
+
+    public PaginationMetadata {
+        if (accuracy == null) {
+            accuracy = Accuracy.EXACT;
+            hasNext = hasNext || currentPage + 1 < totalPages;
+        }
+    }
+
+    public PaginationMetadata(
+            int currentPage,
+            int perPage,
+            int totalPages,
+            long totalItems
+    ) {
+        this(currentPage, perPage, totalPages, totalItems, currentPage + 1 < totalPages, Accuracy.EXACT);
+    }
+
+    public static PaginationMetadata exact(final int currentPage, final int perPage, final long totalItems) {
+        return new PaginationMetadata(currentPage, perPage, totalPages(perPage, totalItems), totalItems);
+    }
+
+    /**
+     * Metadata of a listing that skipped the count: only tells whether a next page exists, usually
+     * found by fetching {@code perPage + 1} rows.
+     */
+    public static PaginationMetadata hasNext(final int currentPage, final int perPage, final boolean hasNext) {
+        return new PaginationMetadata(currentPage, perPage, -1, -1, hasNext, Accuracy.UNKNOWN);
+    }
+
+    /**
+     * Metadata with approximate totals, such as a planner row estimate or a stale cached count.
+     */
+    public static PaginationMetadata estimated(
+            final int currentPage,
+            final int perPage,
+            final long estimatedItems,
+            final boolean hasNext
+    ) {
+        return new PaginationMetadata(
+                currentPage,
+                perPage,
+                totalPages(perPage, estimatedItems),
+                estimatedItems,
+                hasNext,
+                Accuracy.ESTIMATED
+        );
+    }
+
+    public boolean isExact() {
+        return accuracy == Accuracy.EXACT;
+    }
+
+    private static int totalPages(final int perPage, final long totalItems) {
+        if (perPage <= 0) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (totalItems + perPage - 1) / perPage);
+    }
+
+    public enum Accuracy {
+        EXACT,
+        ESTIMATED,
+        UNKNOWN
+    }
 }
@@ -23,6 +23,10 @@ public record SearchQuery(
         this(page, perPage, terms, sort, direction, null);
     }
 
+    public SearchQuery withPage(final int aPage) {
+        return new SearchQuery(aPage, perPage, terms, sort, direction, period);
+    }
+
     public Optional<Period> getPeriod() {
         return Optional.ofNullable(period);
     }
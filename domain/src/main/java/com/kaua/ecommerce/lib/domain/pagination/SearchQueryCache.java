@@ -0,0 +1,191 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches query results per {@link SearchQueryKey}.
+ * <p>Entries expire {@code ttl} after being loaded and the least recently used entry is evicted
+ * above {@code maxSize}. Loading is single-flight: concurrent misses on the same key share one
+ * load, and a failed load is not cached. The loader runs outside of the cache lock.</p>
+ */
+public final class SearchQueryCache<V> {
+
+    private final Duration ttl;
+    private final int maxSize;
+    private final Duration periodGranularity;
+    private final LongSupplier nanoClock;
+    private final Map<SearchQueryKey, CacheEntry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    SearchQueryCache(
+            final Duration aTtl,
+            final int aMaxSize,
+            final Duration aPeriodGranularity,
+            final LongSupplier aNanoClock
+    ) {
+        if (aMaxSize < 1) {
+            throw new IllegalArgumentException("maxSize should be greater than 0");
+        }
+        this.ttl = aTtl;
+        this.maxSize = aMaxSize;
+        this.periodGranularity = aPeriodGranularity;
+        this.nanoClock = aNanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<SearchQueryKey, CacheEntry<V>> eldest) {
+                if (size() > SearchQueryCache.this.maxSize) {
+                    SearchQueryCache.this.evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static <V> SearchQueryCache<V> create(final Duration aTtl, final int aMaxSize) {
+        return create(aTtl, aMaxSize, Duration.ZERO);
+    }
+
+    /**
+     * @param aTtl               how long a loaded result is served
+     * @param aMaxSize           maximum number of cached results
+     * @param aPeriodGranularity period bucket size of the keys, see {@link SearchQueryKey#of(SearchQuery, Duration)}
+     * @return a new {@link SearchQueryCache}
+     */
+    public static <V> SearchQueryCache<V> create(
+            final Duration aTtl,
+            final int aMaxSize,
+            final Duration aPeriodGranularity
+    ) {
+        return new SearchQueryCache<>(aTtl, aMaxSize, aPeriodGranularity, System::nanoTime);
+    }
+
+    /**
+     * Blocking variant of {@link #getAsync(SearchQuery, Function)}.
+     *
+     * @throws RuntimeException the exception thrown by the loader
+     */
+    public V get(final SearchQuery aQuery, final Function<SearchQuery, V> aLoader) {
+        try {
+            return getAsync(aQuery, query -> CompletableFuture.completedFuture(aLoader.apply(query))).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException ex) {
+                throw ex;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param aQuery  the query, normalized into a {@link SearchQueryKey}
+     * @param aLoader loads the result on a miss, receives the original query
+     * @return the cached, in-flight or newly loaded result, a copy per caller so cancelling or completing it
+     * does not affect the cached entry
+     */
+    public CompletableFuture<V> getAsync(
+            final SearchQuery aQuery,
+            final Function<SearchQuery, ? extends CompletionStage<V>> aLoader
+    ) {
+        final var aKey = SearchQueryKey.of(aQuery, this.periodGranularity);
+        final var aEntry = new CacheEntry<V>(new CompletableFuture<>());
+
+        synchronized (this.entries) {
+            final var aCached = this.entries.get(aKey);
+            if (aCached != null && !isExpired(aCached)) {
+                this.hits.increment();
+                return aCached.value().copy();
+            }
+            this.misses.increment();
+            this.entries.put(aKey, aEntry);
+        }
+
+        try {
+            aLoader.apply(aQuery).whenComplete((aValue, aError) -> complete(aKey, aEntry, aValue, aError));
+        } catch (final Throwable t) {
+            complete(aKey, aEntry, null, t);
+        }
+        return aEntry.value().copy();
+    }
+
+    public void invalidate(final SearchQuery aQuery) {
+        synchronized (this.entries) {
+            this.entries.remove(SearchQueryKey.of(aQuery, this.periodGranularity));
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum());
+    }
+
+    private void complete(
+            final SearchQueryKey aKey,
+            final CacheEntry<V> aEntry,
+            final V aValue,
+            final Throwable aError
+    ) {
+        if (aError != null) {
+            synchronized (this.entries) {
+                this.entries.remove(aKey, aEntry);
+            }
+            aEntry.value().completeExceptionally(aError);
+            return;
+        }
+        aEntry.loadedAt = this.nanoClock.getAsLong();
+        aEntry.loaded = true;
+        aEntry.value().complete(aValue);
+    }
+
+    private boolean isExpired(final CacheEntry<V> aEntry) {
+        return aEntry.loaded && this.nanoClock.getAsLong() - aEntry.loadedAt > this.ttl.toNanos();
+    }
+
+    /**
+     * @param hits      lookups answered by a cached or in-flight result
+     * @param misses    lookups that started a load
+     * @param evictions entries removed to honour the maximum size
+     */
+    public record CacheStats(long hits, long misses, long evictions) {
+
+        public double hitRatio() {
+            final var aRequests = hits + misses;
+            return aRequests == 0 ? 0 : (double) hits / aRequests;
+        }
+    }
+
+    private static final class CacheEntry<V> {
+        private final CompletableFuture<V> value;
+        private volatile long loadedAt;
+        private volatile boolean loaded;
+
+        private CacheEntry(final CompletableFuture<V> value) {
+            this.value = value;
+        }
+
+        private CompletableFuture<V> value() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Canonical form of a {@link SearchQuery}, used as cache key.
+ * <p>Terms are trimmed, lower-cased and have inner whitespace collapsed, sort and direction are
+ * trimmed and lower-cased, and the {@link com.kaua.ecommerce.lib.domain.utils.Period} bounds are
+ * floored to a granularity, so {@code "last 30 days"} queries issued a few seconds apart share a key.
+ * {@link #hashCode()} is computed with a fixed formula, it does not depend on the JVM.</p>
+ *
+ * @param periodStart the bucketed period start, {@code null} without period
+ * @param periodEnd   the bucketed period end, {@code null} without period
+ */
+public record SearchQueryKey(
+        int page,
+        int perPage,
+        String terms,
+        String sort,
+        String direction,
+        Instant periodStart,
+        Instant periodEnd
+) {
+
+    private static final long MAX_MILLIS_EPOCH_SECOND = Long.MAX_VALUE / 1_000 - 1;
+    private static final long MIN_MILLIS_EPOCH_SECOND = Long.MIN_VALUE / 1_000;
+
+    /**
+     * @param aQuery the query to normalize, the period is kept as is
+     * @return the key of the query
+     */
+    public static SearchQueryKey of(final SearchQuery aQuery) {
+        return of(aQuery, Duration.ZERO);
+    }
+
+    /**
+     * @param aQuery       the query to normalize
+     * @param aGranularity the period bucket size, {@link Duration#ZERO} keeps the period as is
+     * @return the key of the query
+     */
+    public static SearchQueryKey of(final SearchQuery aQuery, final Duration aGranularity) {
+        final var aPeriod = aQuery.getPeriod();
+        return new SearchQueryKey(
+                aQuery.page(),
+                aQuery.perPage(),
+                normalizeTerms(aQuery.terms()),
+                normalize(aQuery.sort()),
+                normalize(aQuery.direction()),
+                aPeriod.map(it -> floor(it.start(), aGranularity)).orElse(null),
+                aPeriod.map(it -> floor(it.end(), aGranularity)).orElse(null)
+        );
+    }
+
+    /**
+     * @return this key without page, page size and sort, for results that do not depend on them such as counts
+     */
+    public SearchQueryKey withoutPaging() {
+        return new SearchQueryKey(0, 0, terms, "", "", periodStart, periodEnd);
+    }
+
+    @Override
+    public int hashCode() {
+        var aHash = 31 * page + perPage;
+        aHash = 31 * aHash + terms.hashCode();
+        aHash = 31 * aHash + sort.hashCode();
+        aHash = 31 * aHash + direction.hashCode();
+        aHash = 31 * aHash + Objects.hashCode(periodStart);
+        return 31 * aHash + Objects.hashCode(periodEnd);
+    }
+
+    private static String normalizeTerms(final String aTerms) {
+        if (aTerms == null || aTerms.isBlank()) {
+            return "";
+        }
+
+        final var aStripped = aTerms.strip();
+        final var aBuilder = new StringBuilder(aStripped.length());
+        var aPreviousSpace = false;
+        for (int i = 0; i < aStripped.length(); i++) {
+            final var c = aStripped.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!aPreviousSpace) {
+                    aBuilder.append(' ');
+                }
+                aPreviousSpace = true;
+            } else {
+                aBuilder.append(c);
+                aPreviousSpace = false;
+            }
+        }
+        return aBuilder.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalize(final String aValue) {
+        return aValue == null ? "" : aValue.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static Instant floor(final Instant aInstant, final Duration aGranularity) {
+        final var aMillis = aGranularity.toMillis();
+        final var aSeconds = aInstant.getEpochSecond();
+        // instants beyond the epoch millis range, such as Instant.MAX for open-ended periods, are kept as is
+        if (aMillis <= 0 || aSeconds > MAX_MILLIS_EPOCH_SECOND || aSeconds < MIN_MILLIS_EPOCH_SECOND) {
+            return aInstant;
+        }
+        return Instant.ofEpochMilli(Math.floorDiv(aInstant.toEpochMilli(), aMillis) * aMillis);
+    }
+}
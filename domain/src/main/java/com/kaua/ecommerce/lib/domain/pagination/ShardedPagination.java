@@ -0,0 +1,19 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import java.util.List;
+
+/**
+ * Result of a scatter-gather query.
+ *
+ * @param pagination    the merged page, with estimated totals when shards are missing
+ * @param missingShards indexes of the shards that failed or missed the deadline
+ */
+public record ShardedPagination<T>(
+        Pagination<T> pagination,
+        List<Integer> missingShards
+) {
+
+    public boolean isPartial() {
+        return !missingShards.isEmpty();
+    }
+}
@@ -0,0 +1,164 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import com.kaua.ecommerce.lib.domain.validation.Error;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Merges the sorted pages returned by several shards (or services) into one page.
+ * <p>Page {@code p} of the merged result can contain any of the first {@code (p + 1) * perPage} items
+ * of each shard, so each shard is asked for {@link #shardQuery(SearchQuery)}. The merge is a k-way heap
+ * merge that stops as soon as the requested page is filled: it costs {@code O(page end * log shards)}
+ * instead of re-sorting everything. Totals are the sum of the shards totals, exact only when every
+ * shard answered with exact totals. Ties keep shard order. An unknown sort concatenates the shards.
+ * A negative page or a non positive perPage throws a {@link ValidationException}.</p>
+ */
+public final class ShardedPaginationMerger {
+
+    private ShardedPaginationMerger() {}
+
+    /**
+     * @param aQuery the query of the merged page
+     * @return the query to send to every shard: first page, sized up to the end of the merged page
+     */
+    public static SearchQuery shardQuery(final SearchQuery aQuery) {
+        validate(aQuery);
+        final var aEnd = (int) Math.min(Integer.MAX_VALUE, (long) (aQuery.page() + 1) * aQuery.perPage());
+        return new SearchQuery(0, aEnd, aQuery.terms(), aQuery.sort(), aQuery.direction(), aQuery.period());
+    }
+
+    public static <T> Pagination<T> merge(
+            final List<Pagination<T>> aShardPages,
+            final SearchQuery aQuery,
+            final SortComparators<T> aSorts
+    ) {
+        return merge(aShardPages, aQuery, aSorts, false);
+    }
+
+    /**
+     * Queries every shard concurrently and merges what answered in time.
+     *
+     * @param aShards   one supplier per shard, receiving nothing and returning the page of {@link #shardQuery(SearchQuery)}
+     * @param aQuery    the query of the merged page
+     * @param aSorts    the comparators of the sort fields
+     * @param aDeadline how long each shard may take, a late or failed shard is left out and reported
+     * @return the merged page, never completed exceptionally because of a shard
+     */
+    public static <T> CompletableFuture<ShardedPagination<T>> gather(
+            final List<Supplier<? extends CompletionStage<Pagination<T>>>> aShards,
+            final SearchQuery aQuery,
+            final SortComparators<T> aSorts,
+            final Duration aDeadline
+    ) {
+        validate(aQuery);
+        final var aFutures = new ArrayList<CompletableFuture<Pagination<T>>>(aShards.size());
+        for (final Supplier<? extends CompletionStage<Pagination<T>>> aShard : aShards) {
+            CompletableFuture<Pagination<T>> aFuture;
+            try {
+                aFuture = aShard.get().toCompletableFuture();
+            } catch (final Throwable t) {
+                aFuture = CompletableFuture.failedFuture(t);
+            }
+            aFutures.add(aFuture.orTimeout(aDeadline.toNanos(), TimeUnit.NANOSECONDS)
+                    .exceptionally(ex -> null));
+        }
+
+        return CompletableFuture.allOf(aFutures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    final var aPages = new ArrayList<Pagination<T>>(aFutures.size());
+                    final var aMissing = new ArrayList<Integer>();
+                    for (int i = 0; i < aFutures.size(); i++) {
+                        final var aPage = aFutures.get(i).join();
+                        if (aPage == null) {
+                            aMissing.add(i);
+                        } else {
+                            aPages.add(aPage);
+                        }
+                    }
+                    return new ShardedPagination<>(
+                            merge(aPages, aQuery, aSorts, !aMissing.isEmpty()),
+                            List.copyOf(aMissing)
+                    );
+                });
+    }
+
+    private static <T> Pagination<T> merge(
+            final List<Pagination<T>> aShardPages,
+            final SearchQuery aQuery,
+            final SortComparators<T> aSorts,
+            final boolean isPartial
+    ) {
+        validate(aQuery);
+        final var aFrom = (long) aQuery.page() * aQuery.perPage();
+        final var aTo = aFrom + aQuery.perPage();
+        final var aComparator = aSorts.resolve(aQuery)
+                .map(ShardedPaginationMerger::<T>cursorOrder)
+                .orElse(Comparator.comparingInt(ShardCursor::shard));
+
+        final var aHeap = new PriorityQueue<ShardCursor<T>>(Math.max(1, aShardPages.size()), aComparator);
+        var aTotal = 0L;
+        var isExact = !isPartial;
+        var hasMoreInShards = false;
+        for (int i = 0; i < aShardPages.size(); i++) {
+            final var aPage = aShardPages.get(i);
+            aTotal += Math.max(0, aPage.metadata().totalItems());
+            isExact &= aPage.metadata().isExact();
+            hasMoreInShards |= aPage.metadata().hasNext();
+            if (!aPage.items().isEmpty()) {
+                aHeap.add(new ShardCursor<>(aPage.items(), i, 0));
+            }
+        }
+
+        final var aItems = new ArrayList<T>(aQuery.perPage());
+        var aPosition = 0L;
+        while (!aHeap.isEmpty() && aPosition < aTo) {
+            final var aCursor = aHeap.poll();
+            if (aPosition >= aFrom) {
+                aItems.add(aCursor.current());
+            }
+            aPosition++;
+            if (aCursor.position() + 1 < aCursor.items().size()) {
+                aHeap.add(aCursor.advance());
+            }
+        }
+
+        final var hasNext = !aHeap.isEmpty() || hasMoreInShards;
+        final var aMetadata = isExact
+                ? PaginationMetadata.exact(aQuery.page(), aQuery.perPage(), aTotal)
+                : PaginationMetadata.estimated(aQuery.page(), aQuery.perPage(), aTotal, hasNext);
+        return new Pagination<>(aMetadata, List.copyOf(aItems));
+    }
+
+    private static void validate(final SearchQuery aQuery) {
+        if (aQuery.page() < 0) {
+            throw ValidationException.with(new Error("page", "should not be negative"));
+        }
+        if (aQuery.perPage() <= 0) {
+            throw ValidationException.with(new Error("perPage", "should be greater than 0"));
+        }
+    }
+
+    private static <T> Comparator<ShardCursor<T>> cursorOrder(final Comparator<T> aComparator) {
+        return Comparator.<ShardCursor<T>, T>comparing(ShardCursor::current, aComparator).thenComparingInt(ShardCursor::shard);
+    }
+
+    private record ShardCursor<T>(List<T> items, int shard, int position) {
+
+        private T current() {
+            return items.get(position);
+        }
+
+        private ShardCursor<T> advance() {
+            return new ShardCursor<>(items, shard, position + 1);
+        }
+    }
+}
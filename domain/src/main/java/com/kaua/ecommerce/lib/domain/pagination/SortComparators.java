@@ -0,0 +1,65 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Maps the {@link SearchQuery#sort()} and {@link SearchQuery#direction()} of a query to a
+ * {@link Comparator}, for components that sort in memory.
+ * <p>Sort names are matched ignoring case, the direction {@code "desc"} (ignoring case) reverses
+ * the comparator and anything else sorts ascending. Immutable and thread-safe.</p>
+ */
+public final class SortComparators<T> {
+
+    private final Map<String, Comparator<T>> comparators;
+
+    private SortComparators(final Map<String, Comparator<T>> comparators) {
+        this.comparators = comparators;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return the comparator of the query sort and direction, empty when the sort is unknown
+     */
+    public Optional<Comparator<T>> resolve(final SearchQuery aQuery) {
+        return resolve(aQuery.sort(), aQuery.direction());
+    }
+
+    public Optional<Comparator<T>> resolve(final String aSort, final String aDirection) {
+        if (aSort == null) {
+            return Optional.empty();
+        }
+
+        final var aComparator = this.comparators.get(aSort.strip().toLowerCase(Locale.ROOT));
+        if (aComparator == null) {
+            return Optional.empty();
+        }
+        return Optional.of(isDescending(aDirection) ? aComparator.reversed() : aComparator);
+    }
+
+    public static boolean isDescending(final String aDirection) {
+        return aDirection != null && aDirection.strip().equalsIgnoreCase("desc");
+    }
+
+    public static final class Builder<T> {
+
+        private final Map<String, Comparator<T>> comparators = new HashMap<>();
+
+        private Builder() {}
+
+        public Builder<T> sort(final String aName, final Comparator<T> aComparator) {
+            this.comparators.put(aName.strip().toLowerCase(Locale.ROOT), aComparator);
+            return this;
+        }
+
+        public SortComparators<T> build() {
+            return new SortComparators<>(Map.copyOf(this.comparators));
+        }
+    }
+}
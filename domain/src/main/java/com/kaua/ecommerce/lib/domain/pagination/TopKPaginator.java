@@ -0,0 +1,211 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import com.kaua.ecommerce.lib.domain.validation.Error;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Applies a {@link SearchQuery} page to an in-memory list without sorting the whole list.
+ * <p>Page {@code p} only needs the first {@code k = (p + 1) * perPage} items of the sort order, which a
+ * bounded heap of size {@code k} finds in {@code O(n log k)}. Items that compare equal keep their
+ * list order, so the pages are consistent with a stable sort. An unknown sort keeps the list order.
+ * A negative page or a non positive perPage throws a {@link ValidationException}.</p>
+ */
+public final class TopKPaginator {
+
+    public static final int DEFAULT_THRESHOLD = 8192;
+
+    private TopKPaginator() {}
+
+    public static <T> Pagination<T> paginate(
+            final List<T> items,
+            final SearchQuery aQuery,
+            final SortComparators<T> aSorts
+    ) {
+        final var aComparator = aSorts.resolve(aQuery).orElse(null);
+        final var aWindow = Window.of(aQuery, items.size());
+        if (aWindow.isEmpty() || aComparator == null) {
+            return aWindow.page(aQuery, items.size(), aComparator == null ? items : List.of());
+        }
+
+        final var aTop = topK(items, 0, items.size(), aWindow.to(), aComparator);
+        return aWindow.page(aQuery, items.size(), aTop);
+    }
+
+    public static <T> Pagination<T> paginateParallel(
+            final List<T> items,
+            final SearchQuery aQuery,
+            final SortComparators<T> aSorts
+    ) {
+        return paginateParallel(items, aQuery, aSorts, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Same as {@link #paginate(List, SearchQuery, SortComparators)}, each slice of the list computes its
+     * own top-k on the pool and the partial results are merged. Worth it from tens of thousands of items.
+     */
+    public static <T> Pagination<T> paginateParallel(
+            final List<T> items,
+            final SearchQuery aQuery,
+            final SortComparators<T> aSorts,
+            final ForkJoinPool aPool
+    ) {
+        final var aComparator = aSorts.resolve(aQuery).orElse(null);
+        final var aWindow = Window.of(aQuery, items.size());
+        if (aWindow.isEmpty() || aComparator == null || items.size() <= DEFAULT_THRESHOLD) {
+            return paginate(items, aQuery, aSorts);
+        }
+
+        final var aThreshold = Math.max(DEFAULT_THRESHOLD, items.size() / (aPool.getParallelism() * 4));
+        final var aTop = aPool.invoke(new TopKTask<>(items, 0, items.size(), aWindow.to(), aThreshold, aComparator));
+        return aWindow.page(aQuery, items.size(), aTop);
+    }
+
+    /**
+     * @return the first {@code k} items of {@code [from, to)} in sort order
+     */
+    private static <T> List<T> topK(
+            final List<T> items,
+            final int from,
+            final int to,
+            final int k,
+            final Comparator<T> aComparator
+    ) {
+        final var aLength = to - from;
+        if (k >= aLength) {
+            final var aAll = new ArrayList<>(items.subList(from, to));
+            aAll.sort(aComparator);
+            return aAll;
+        }
+
+        // max-heap on the sort order: the head is the worst of the current top-k
+        final var aHeap = new PriorityQueue<Indexed<T>>(k, Indexed.<T>order(aComparator).reversed());
+        for (int i = from; i < to; i++) {
+            final var aItem = items.get(i);
+            if (aHeap.size() < k) {
+                aHeap.add(new Indexed<>(aItem, i));
+            } else if (aComparator.compare(aItem, aHeap.peek().value()) < 0) {
+                // on ties the later item loses, which keeps the list order
+                aHeap.poll();
+                aHeap.add(new Indexed<>(aItem, i));
+            }
+        }
+
+        @SuppressWarnings("unchecked") final var aSorted = (Indexed<T>[]) aHeap.toArray(new Indexed<?>[0]);
+        Arrays.sort(aSorted, Indexed.order(aComparator));
+        final var aResult = new ArrayList<T>(aSorted.length);
+        for (final Indexed<T> aIndexed : aSorted) {
+            aResult.add(aIndexed.value());
+        }
+        return aResult;
+    }
+
+    private static <T> List<T> merge(
+            final List<T> aLeft,
+            final List<T> aRight,
+            final int k,
+            final Comparator<T> aComparator
+    ) {
+        final var aResult = new ArrayList<T>(Math.min(k, aLeft.size() + aRight.size()));
+        var i = 0;
+        var j = 0;
+        while (aResult.size() < k && (i < aLeft.size() || j < aRight.size())) {
+            // left comes first on ties, it holds the earlier slice of the list
+            if (j >= aRight.size() || (i < aLeft.size() && aComparator.compare(aLeft.get(i), aRight.get(j)) <= 0)) {
+                aResult.add(aLeft.get(i++));
+            } else {
+                aResult.add(aRight.get(j++));
+            }
+        }
+        return aResult;
+    }
+
+    private record Indexed<T>(T value, int index) {
+
+        private static <T> Comparator<Indexed<T>> order(final Comparator<T> aComparator) {
+            return Comparator.<Indexed<T>, T>comparing(Indexed::value, aComparator).thenComparingInt(Indexed::index);
+        }
+    }
+
+    private record Window(int from, int to) {
+
+        private static Window of(final SearchQuery aQuery, final int aSize) {
+            if (aQuery.page() < 0) {
+                throw ValidationException.with(new Error("page", "should not be negative"));
+            }
+            if (aQuery.perPage() <= 0) {
+                throw ValidationException.with(new Error("perPage", "should be greater than 0"));
+            }
+
+            final var aFrom = (int) Math.min(aSize, (long) aQuery.page() * aQuery.perPage());
+            final var aTo = (int) Math.min(aSize, (long) aFrom + aQuery.perPage());
+            return new Window(aFrom, aTo);
+        }
+
+        private boolean isEmpty() {
+            return to <= from;
+        }
+
+        /**
+         * @param aSorted the sorted items, at least up to the end of the window
+         */
+        private <T> Pagination<T> page(final SearchQuery aQuery, final int aTotal, final List<T> aSorted) {
+            final var aEnd = Math.min(to, aSorted.size());
+            final var aStart = Math.min(from, aEnd);
+            return new Pagination<>(
+                    PaginationMetadata.exact(aQuery.page(), aQuery.perPage(), aTotal),
+                    List.copyOf(aSorted.subList(aStart, aEnd))
+            );
+        }
+    }
+
+    private static class TopKTask<T> extends RecursiveTask<List<T>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> items;
+        private final int from;
+        private final int to;
+        private final int k;
+        private final int threshold;
+        private final Comparator<T> comparator;
+
+        private TopKTask(
+                final List<T> items,
+                final int from,
+                final int to,
+                final int k,
+                final int threshold,
+                final Comparator<T> comparator
+        ) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.k = k;
+            this.threshold = threshold;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (to - from <= threshold) {
+                return topK(items, from, to, k, comparator);
+            }
+
+            final var aMiddle = (from + to) >>> 1;
+            final var aLeft = new TopKTask<>(items, from, aMiddle, k, threshold, comparator);
+            final var aRight = new TopKTask<>(items, aMiddle, to, k, threshold, comparator);
+
+            aLeft.fork();
+            final var aRightTop = aRight.compute();
+            return merge(aLeft.join(), aRightTop, k, comparator);
+        }
+    }
+}
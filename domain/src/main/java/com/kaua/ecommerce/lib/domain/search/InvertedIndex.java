@@ -0,0 +1,207 @@
+package com.kaua.ecommerce.lib.domain.search;
+
+import com.kaua.ecommerce.lib.domain.pagination.Pagination;
+import com.kaua.ecommerce.lib.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.lib.domain.pagination.SortComparators;
+import com.kaua.ecommerce.lib.domain.pagination.TopKPaginator;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable in-memory full-text index answering {@link SearchQuery#terms()} over a catalog.
+ * <p>Text is split by {@link Tokenizer}, so matching ignores case and accents and is done per whole
+ * token. Each token keeps a compressed {@link PostingList} of the items containing it: a search only
+ * reads the posting lists of its tokens, starting from the shortest, instead of scanning the catalog.
+ * Matches are filtered by {@link SearchQuery#period()} when a period field is declared, and the page
+ * is selected with {@link TopKPaginator} using the declared {@link SortComparators} (catalog order for
+ * an unknown sort). Blank terms match every item.</p>
+ * <p>Thread-safe. Rebuild the index to reflect catalog changes.</p>
+ *
+ * <pre>{@code
+ * final var aIndex = InvertedIndex.<Product>builder()
+ *         .text(Product::name)
+ *         .text(Product::description)
+ *         .sort("name", Comparator.comparing(Product::name))
+ *         .period(Product::createdAt)
+ *         .build(aProducts);
+ * }</pre>
+ */
+public final class InvertedIndex<T> {
+
+    private final List<T> items;
+    private final Map<String, PostingList> postings;
+    private final SortComparators<T> sorts;
+    private final Function<T, Instant> periodField;
+
+    private InvertedIndex(
+            final List<T> items,
+            final Map<String, PostingList> postings,
+            final SortComparators<T> sorts,
+            final Function<T, Instant> periodField
+    ) {
+        this.items = items;
+        this.postings = postings;
+        this.sorts = sorts;
+        this.periodField = periodField;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public Pagination<T> search(final SearchQuery aQuery) {
+        return search(aQuery, MatchMode.ALL);
+    }
+
+    public Pagination<T> search(final SearchQuery aQuery, final MatchMode aMode) {
+        final var aMatches = filterPeriod(aQuery, match(aQuery.terms(), aMode));
+
+        final List<T> aItems = new ArrayList<>(aMatches.length);
+        for (final int aId : aMatches) {
+            aItems.add(this.items.get(aId));
+        }
+        return TopKPaginator.paginate(aItems, aQuery, this.sorts);
+    }
+
+    public int size() {
+        return this.items.size();
+    }
+
+    private int[] match(final String aTerms, final MatchMode aMode) {
+        final var aTokens = Tokenizer.tokenize(aTerms);
+        if (aTokens.isEmpty()) {
+            final var aAll = new int[this.items.size()];
+            Arrays.setAll(aAll, i -> i);
+            return aAll;
+        }
+
+        final var aLists = new ArrayList<PostingList>(aTokens.size());
+        for (final String aToken : aTokens) {
+            final var aPostings = this.postings.get(aToken);
+            if (aPostings != null) {
+                aLists.add(aPostings);
+            } else if (aMode == MatchMode.ALL) {
+                return new int[0];
+            }
+        }
+        if (aLists.isEmpty()) {
+            return new int[0];
+        }
+
+        aLists.sort(Comparator.comparingInt(PostingList::size));
+        var aResult = aLists.get(0).decode();
+        for (int i = 1; i < aLists.size(); i++) {
+            aResult = aMode == MatchMode.ALL
+                    ? aLists.get(i).retain(aResult)
+                    : union(aResult, aLists.get(i).decode());
+            if (aResult.length == 0) {
+                break;
+            }
+        }
+        return aResult;
+    }
+
+    private int[] filterPeriod(final SearchQuery aQuery, final int[] aMatches) {
+        final var aPeriod = aQuery.getPeriod();
+        if (this.periodField == null || aPeriod.isEmpty()) {
+            return aMatches;
+        }
+
+        final var aStart = aPeriod.get().start();
+        final var aEnd = aPeriod.get().end();
+        final var aResult = new int[aMatches.length];
+        var aCount = 0;
+        for (final int aId : aMatches) {
+            final var aInstant = this.periodField.apply(this.items.get(aId));
+            if (aInstant != null && !aInstant.isBefore(aStart) && !aInstant.isAfter(aEnd)) {
+                aResult[aCount++] = aId;
+            }
+        }
+        return Arrays.copyOf(aResult, aCount);
+    }
+
+    private static int[] union(final int[] aLeft, final int[] aRight) {
+        final var aResult = new int[aLeft.length + aRight.length];
+        var i = 0;
+        var j = 0;
+        var aCount = 0;
+        while (i < aLeft.length && j < aRight.length) {
+            if (aLeft[i] < aRight[j]) {
+                aResult[aCount++] = aLeft[i++];
+            } else if (aLeft[i] > aRight[j]) {
+                aResult[aCount++] = aRight[j++];
+            } else {
+                aResult[aCount++] = aLeft[i++];
+                j++;
+            }
+        }
+        while (i < aLeft.length) aResult[aCount++] = aLeft[i++];
+        while (j < aRight.length) aResult[aCount++] = aRight[j++];
+        return Arrays.copyOf(aResult, aCount);
+    }
+
+    public static final class Builder<T> {
+
+        private final List<Function<T, String>> textFields = new ArrayList<>();
+        private final SortComparators.Builder<T> sorts = SortComparators.builder();
+        private Function<T, Instant> periodField;
+
+        private Builder() {}
+
+        public Builder<T> text(final Function<T, String> aField) {
+            this.textFields.add(aField);
+            return this;
+        }
+
+        public Builder<T> sort(final String aName, final Comparator<T> aComparator) {
+            this.sorts.sort(aName, aComparator);
+            return this;
+        }
+
+        public Builder<T> period(final Function<T, Instant> aField) {
+            this.periodField = aField;
+            return this;
+        }
+
+        public InvertedIndex<T> build(final List<T> aCatalog) {
+            final var aItems = List.copyOf(aCatalog);
+            final var aIds = new HashMap<String, IntBuffer>();
+
+            for (int i = 0; i < aItems.size(); i++) {
+                final var aItem = aItems.get(i);
+                for (final Function<T, String> aField : this.textFields) {
+                    for (final String aToken : Tokenizer.tokenize(aField.apply(aItem))) {
+                        aIds.computeIfAbsent(aToken, token -> new IntBuffer()).add(i);
+                    }
+                }
+            }
+
+            final var aPostings = new HashMap<String, PostingList>(aIds.size() * 2);
+            aIds.forEach((token, ids) -> aPostings.put(token, PostingList.encode(ids.values, ids.size)));
+            return new InvertedIndex<>(aItems, Map.copyOf(aPostings), this.sorts.build(), this.periodField);
+        }
+    }
+
+    private static final class IntBuffer {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(final int aValue) {
+            // the same item may yield the same token from several fields
+            if (size > 0 && values[size - 1] == aValue) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = aValue;
+        }
+    }
+}
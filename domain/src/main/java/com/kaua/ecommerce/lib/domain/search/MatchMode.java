@@ -0,0 +1,12 @@
+package com.kaua.ecommerce.lib.domain.search;
+
+public enum MatchMode {
+    /**
+     * Items containing every token of the terms.
+     */
+    ALL,
+    /**
+     * Items containing at least one token of the terms.
+     */
+    ANY
+}
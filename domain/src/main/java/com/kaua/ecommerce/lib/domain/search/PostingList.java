@@ -0,0 +1,94 @@
+package com.kaua.ecommerce.lib.domain.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted document ids stored as delta-encoded varints, usually 1 byte per id on dense terms.
+ */
+final class PostingList {
+
+    private final byte[] data;
+    private final int size;
+
+    private PostingList(final byte[] data, final int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    /**
+     * @param aIds    ascending document ids
+     * @param aLength how many ids of the array to encode
+     */
+    static PostingList encode(final int[] aIds, final int aLength) {
+        final var aData = new byte[aLength * 5];
+        var aPosition = 0;
+        var aPrevious = 0;
+        for (int i = 0; i < aLength; i++) {
+            var aDelta = aIds[i] - aPrevious;
+            aPrevious = aIds[i];
+            while ((aDelta & ~0x7F) != 0) {
+                aData[aPosition++] = (byte) ((aDelta & 0x7F) | 0x80);
+                aDelta >>>= 7;
+            }
+            aData[aPosition++] = (byte) aDelta;
+        }
+        return new PostingList(Arrays.copyOf(aData, aPosition), aLength);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] decode() {
+        final var aIds = new int[size];
+        var aPosition = 0;
+        var aPrevious = 0;
+        for (int i = 0; i < size; i++) {
+            var aDelta = 0;
+            var aShift = 0;
+            byte b;
+            do {
+                b = data[aPosition++];
+                aDelta |= (b & 0x7F) << aShift;
+                aShift += 7;
+            } while (b < 0);
+            aPrevious += aDelta;
+            aIds[i] = aPrevious;
+        }
+        return aIds;
+    }
+
+    /**
+     * Keeps the candidates present in this list, decoding only up to the last candidate.
+     *
+     * @param aCandidates ascending document ids
+     * @return the ascending ids present in both
+     */
+    int[] retain(final int[] aCandidates) {
+        final var aResult = new int[Math.min(aCandidates.length, size)];
+        var aCount = 0;
+        var aCandidate = 0;
+        var aPosition = 0;
+        var aPrevious = 0;
+        for (int i = 0; i < size && aCandidate < aCandidates.length; i++) {
+            var aDelta = 0;
+            var aShift = 0;
+            byte b;
+            do {
+                b = data[aPosition++];
+                aDelta |= (b & 0x7F) << aShift;
+                aShift += 7;
+            } while (b < 0);
+            aPrevious += aDelta;
+
+            while (aCandidate < aCandidates.length && aCandidates[aCandidate] < aPrevious) {
+                aCandidate++;
+            }
+            if (aCandidate < aCandidates.length && aCandidates[aCandidate] == aPrevious) {
+                aResult[aCount++] = aPrevious;
+                aCandidate++;
+            }
+        }
+        return aCount == aResult.length ? aResult : Arrays.copyOf(aResult, aCount);
+    }
+}
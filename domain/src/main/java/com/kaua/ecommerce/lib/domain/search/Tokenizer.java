@@ -0,0 +1,68 @@
+package com.kaua.ecommerce.lib.domain.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits text into search tokens: lower-cased, accents removed ({@code "Ação"} becomes
+ * {@code "acao"}, {@code "nº"} becomes {@code "no"}) and split on anything that is not a letter or a digit.
+ */
+public final class Tokenizer {
+
+    private Tokenizer() {}
+
+    /**
+     * @param aText the text to split, may be null
+     * @return the distinct tokens in order of first appearance
+     */
+    public static Set<String> tokenize(final String aText) {
+        final var aTokens = new LinkedHashSet<String>();
+        if (aText == null || aText.isBlank()) {
+            return aTokens;
+        }
+
+        final var aFolded = fold(aText);
+        var aStart = -1;
+        for (int i = 0; i <= aFolded.length(); i++) {
+            final var isTokenChar = i < aFolded.length() && Character.isLetterOrDigit(aFolded.charAt(i));
+            if (isTokenChar && aStart < 0) {
+                aStart = i;
+            } else if (!isTokenChar && aStart >= 0) {
+                aTokens.add(aFolded.substring(aStart, i));
+                aStart = -1;
+            }
+        }
+        return aTokens;
+    }
+
+    /**
+     * @return the text lower-cased and without diacritics
+     */
+    public static String fold(final String aText) {
+        final var aLower = aText.toLowerCase(Locale.ROOT);
+        if (isAscii(aLower)) {
+            return aLower;
+        }
+
+        final var aDecomposed = Normalizer.normalize(aLower, Normalizer.Form.NFKD);
+        final var aBuilder = new StringBuilder(aDecomposed.length());
+        for (int i = 0; i < aDecomposed.length(); i++) {
+            final var c = aDecomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                aBuilder.append(c);
+            }
+        }
+        return aBuilder.toString();
+    }
+
+    private static boolean isAscii(final String aText) {
+        for (int i = 0; i < aText.length(); i++) {
+            if (aText.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,113 @@
+package com.kaua.ecommerce.lib.domain.utils;
+
+/**
+ * Single-pass validators for common e-commerce formats.
+ * <p>Each method gives exactly the same answer as {@code value.matches(X_PATTERN)} for the
+ * corresponding pattern constant, without the regex engine. Null values are never valid.</p>
+ */
+public final class FormatUtils {
+
+    public static final String EMAIL_PATTERN = "^[A-Za-z0-9._%+-]+@[A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,}$";
+    public static final String PHONE_PATTERN = "^\\+?[0-9]{10,13}$";
+    public static final String CEP_PATTERN = "^[0-9]{5}-?[0-9]{3}$";
+    public static final String SKU_PATTERN = "^[A-Z0-9]+(-[A-Z0-9]+)*$";
+    public static final String SLUG_PATTERN = "^[a-z0-9]+(-[a-z0-9]+)*$";
+
+    private FormatUtils() {}
+
+    public static boolean isValidEmail(final String aValue) {
+        if (aValue == null) return false;
+        final var aLength = aValue.length();
+
+        var i = 0;
+        while (i < aLength && aValue.charAt(i) != '@') {
+            if (!isEmailLocalChar(aValue.charAt(i))) return false;
+            i++;
+        }
+        if (i == 0 || i == aLength) return false;
+
+        var aLabelStart = ++i;
+        var aLabels = 1;
+        var aLabelOnlyLetters = true;
+        for (; i < aLength; i++) {
+            final var c = aValue.charAt(i);
+            if (c == '.') {
+                if (i == aLabelStart) return false;
+                aLabels++;
+                aLabelStart = i + 1;
+                aLabelOnlyLetters = true;
+            } else if (isDigit(c) || c == '-') {
+                aLabelOnlyLetters = false;
+            } else if (!isAsciiLetter(c)) {
+                return false;
+            }
+        }
+
+        return aLabels >= 2 && aLabelOnlyLetters && aLength - aLabelStart >= 2;
+    }
+
+    public static boolean isValidPhone(final String aValue) {
+        if (aValue == null) return false;
+        final var aStart = !aValue.isEmpty() && aValue.charAt(0) == '+' ? 1 : 0;
+        final var aDigits = aValue.length() - aStart;
+        if (aDigits < 10 || aDigits > 13) return false;
+        return allDigits(aValue, aStart, aValue.length());
+    }
+
+    public static boolean isValidCep(final String aValue) {
+        if (aValue == null) return false;
+        return switch (aValue.length()) {
+            case 8 -> allDigits(aValue, 0, 8);
+            case 9 -> aValue.charAt(5) == '-' && allDigits(aValue, 0, 5) && allDigits(aValue, 6, 9);
+            default -> false;
+        };
+    }
+
+    public static boolean isValidSku(final String aValue) {
+        if (aValue == null) return false;
+        return isHyphenSeparated(aValue, true);
+    }
+
+    public static boolean isValidSlug(final String aValue) {
+        if (aValue == null) return false;
+        return isHyphenSeparated(aValue, false);
+    }
+
+    private static boolean isHyphenSeparated(final String aValue, final boolean upperCase) {
+        final var aLength = aValue.length();
+        if (aLength == 0 || aValue.charAt(0) == '-' || aValue.charAt(aLength - 1) == '-') return false;
+
+        var aPreviousHyphen = false;
+        for (int i = 0; i < aLength; i++) {
+            final var c = aValue.charAt(i);
+            if (c == '-') {
+                if (aPreviousHyphen) return false;
+                aPreviousHyphen = true;
+            } else if (isDigit(c) || (upperCase ? c >= 'A' && c <= 'Z' : c >= 'a' && c <= 'z')) {
+                aPreviousHyphen = false;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allDigits(final String aValue, final int aFrom, final int aTo) {
+        for (int i = aFrom; i < aTo; i++) {
+            if (!isDigit(aValue.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isEmailLocalChar(final char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isAsciiLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+}
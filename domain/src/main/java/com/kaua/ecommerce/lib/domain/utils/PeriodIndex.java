@@ -0,0 +1,157 @@
+package com.kaua.ecommerce.lib.domain.utils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable interval index over {@link Period}s, answering "which items are active at this instant"
+ * and "which items overlap this range" in {@code O(min(n, (matches + 1) * log n))}.
+ * <p>Items are sorted by start and the bounds are kept as epoch microseconds in packed {@code long[]}
+ * arrays ({@link InstantUtils} precision), so queries do not touch {@link Instant} objects. Instants
+ * beyond the range of epoch microseconds, such as {@link Instant#MAX} for open-ended periods, are
+ * clamped to it. The sorted array is read as an implicit balanced tree where each node also holds the
+ * greatest end of its subtree, which lets a query skip every subtree that ends before it and every
+ * subtree that starts after it. Bounds are inclusive on both sides. Results are in start order.
+ * Thread-safe.</p>
+ *
+ * <pre>{@code
+ * final var aPromotions = PeriodIndex.build(promotions, Promotion::validity);
+ * final var aActive = aPromotions.activeAt(InstantUtils.now());
+ * }</pre>
+ */
+public final class PeriodIndex<T> {
+
+    private static final long MAX_EPOCH_SECOND = Long.MAX_VALUE / 1_000_000 - 1;
+    private static final long MIN_EPOCH_SECOND = Long.MIN_VALUE / 1_000_000;
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final Object[] items;
+
+    private PeriodIndex(final long[] starts, final long[] ends, final Object[] items) {
+        this.starts = starts;
+        this.ends = ends;
+        this.items = items;
+        this.maxEnds = new long[starts.length];
+        if (starts.length > 0) {
+            computeMaxEnds(0, starts.length - 1);
+        }
+    }
+
+    /**
+     * Builds the index in {@code O(n log n)}.
+     *
+     * @param aItems  the items to index
+     * @param aPeriod extracts the period of an item, items without period are not indexed
+     * @return the index
+     */
+    public static <T> PeriodIndex<T> build(final Collection<T> aItems, final Function<T, Period> aPeriod) {
+        final var aEntries = new ArrayList<Entry<T>>(aItems.size());
+        for (final T aItem : aItems) {
+            final var aItemPeriod = aPeriod.apply(aItem);
+            if (aItemPeriod != null) {
+                aEntries.add(new Entry<>(toMicros(aItemPeriod.start()), toMicros(aItemPeriod.end()), aItem));
+            }
+        }
+        aEntries.sort(Comparator.comparingLong(Entry::start));
+
+        final var aSize = aEntries.size();
+        final var aStarts = new long[aSize];
+        final var aEnds = new long[aSize];
+        final var aValues = new Object[aSize];
+        for (int i = 0; i < aSize; i++) {
+            final var aEntry = aEntries.get(i);
+            aStarts[i] = aEntry.start();
+            aEnds[i] = aEntry.end();
+            aValues[i] = aEntry.item();
+        }
+        return new PeriodIndex<>(aStarts, aEnds, aValues);
+    }
+
+    /**
+     * @return the items whose period contains the instant
+     */
+    public List<T> activeAt(final Instant aInstant) {
+        final var aMicros = toMicros(aInstant);
+        return query(aMicros, aMicros);
+    }
+
+    /**
+     * @return the items whose period shares at least an instant with the range
+     */
+    public List<T> overlapping(final Period aRange) {
+        return query(toMicros(aRange.start()), toMicros(aRange.end()));
+    }
+
+    public boolean isActiveAt(final Instant aInstant) {
+        final var aMicros = toMicros(aInstant);
+        return !query(aMicros, aMicros).isEmpty();
+    }
+
+    public int size() {
+        return this.starts.length;
+    }
+
+    private List<T> query(final long aFrom, final long aTo) {
+        final var aResult = new ArrayList<T>();
+        if (this.starts.length > 0) {
+            collect(0, this.starts.length - 1, aFrom, aTo, aResult);
+        }
+        return aResult;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collect(final int lo, final int hi, final long aFrom, final long aTo, final List<T> aResult) {
+        if (lo > hi) {
+            return;
+        }
+        final var aMiddle = (lo + hi) >>> 1;
+        // nothing in this subtree ends at or after the range start
+        if (this.maxEnds[aMiddle] < aFrom) {
+            return;
+        }
+
+        collect(lo, aMiddle - 1, aFrom, aTo, aResult);
+        // the middle and everything on its right start after the range end
+        if (this.starts[aMiddle] > aTo) {
+            return;
+        }
+        if (this.ends[aMiddle] >= aFrom) {
+            aResult.add((T) this.items[aMiddle]);
+        }
+        collect(aMiddle + 1, hi, aFrom, aTo, aResult);
+    }
+
+    private long computeMaxEnds(final int lo, final int hi) {
+        if (lo > hi) {
+            return Long.MIN_VALUE;
+        }
+        final var aMiddle = (lo + hi) >>> 1;
+        final var aMax = Math.max(
+                this.ends[aMiddle],
+                Math.max(computeMaxEnds(lo, aMiddle - 1), computeMaxEnds(aMiddle + 1, hi))
+        );
+        this.maxEnds[aMiddle] = aMax;
+        return aMax;
+    }
+
+    static long toMicros(final Instant aInstant) {
+        final var aSeconds = aInstant.getEpochSecond();
+        if (aSeconds > MAX_EPOCH_SECOND) {
+            return Long.MAX_VALUE;
+        }
+        if (aSeconds < MIN_EPOCH_SECOND) {
+            return Long.MIN_VALUE;
+        }
+        return aSeconds * 1_000_000L + aInstant.getNano() / 1_000;
+    }
+
+    private record Entry<T>(long start, long end, T item) {
+    }
+}
@@ -1,9 +1,11 @@
 package com.kaua.ecommerce.lib.domain.validation;
 
 import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import com.kaua.ecommerce.lib.domain.utils.FormatUtils;
 
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 public interface AssertionConcern {
 
@@ -61,7 +63,41 @@ public interface AssertionConcern {
     }
 
     default void assertArgumentPattern(String val, String pattern, String propertyName, String message) {
-        if (val != null && !val.matches(pattern)) {
+        assertArgumentPattern(val, PatternCache.get(pattern), propertyName, message);
+    }
+
+    default void assertArgumentPattern(String val, Pattern pattern, String propertyName, String message) {
+        if (val != null && !pattern.matcher(val).matches()) {
+            throw ValidationException.with(new Error(propertyName, message));
+        }
+    }
+
+    default void assertArgumentEmail(String val, String propertyName, String message) {
+        if (val != null && !FormatUtils.isValidEmail(val)) {
+            throw ValidationException.with(new Error(propertyName, message));
+        }
+    }
+
+    default void assertArgumentPhone(String val, String propertyName, String message) {
+        if (val != null && !FormatUtils.isValidPhone(val)) {
+            throw ValidationException.with(new Error(propertyName, message));
+        }
+    }
+
+    default void assertArgumentCep(String val, String propertyName, String message) {
+        if (val != null && !FormatUtils.isValidCep(val)) {
+            throw ValidationException.with(new Error(propertyName, message));
+        }
+    }
+
+    default void assertArgumentSku(String val, String propertyName, String message) {
+        if (val != null && !FormatUtils.isValidSku(val)) {
+            throw ValidationException.with(new Error(propertyName, message));
+        }
+    }
+
+    default void assertArgumentSlug(String val, String propertyName, String message) {
+        if (val != null && !FormatUtils.isValidSlug(val)) {
             throw ValidationException.with(new Error(propertyName, message));
         }
     }
@@ -79,4 +115,129 @@ public interface AssertionConcern {
         }
         return val;
     }
+
+    default <T> T assertArgumentNotNull(T val, String propertyName, String message, ValidationHandler handler) {
+        if (val == null) {
+            handler.append(new Error(propertyName, message));
+        }
+        return val;
+    }
+
+    default String assertArgumentNotEmpty(String val, String propertyName, String message, ValidationHandler handler) {
+        if (val == null || val.isBlank()) {
+            handler.append(new Error(propertyName, message));
+        }
+        return val;
+    }
+
+    default String assertArgumentLength(String val, int length, String propertyName, String aMessage, ValidationHandler handler) {
+        if (val == null || val.length() != length) {
+            handler.append(new Error(propertyName, aMessage));
+        }
+        return val;
+    }
+
+    default String assertArgumentMaxLength(String val, int max, String propertyName, String message, ValidationHandler handler) {
+        if (val != null && val.length() > max) {
+            handler.append(new Error(propertyName, message));
+        }
+        return val;
+    }
+
+    default String assertArgumentMinLength(String val, int min, String propertyName, String message, ValidationHandler handler) {
+        if (val != null && val.length() < min) {
+            handler.append(new Error(propertyName, message));
+        }
+        return val;
+    }
+
+    default boolean assertConditionTrue(Boolean val, String propertyName, String message, ValidationHandler handler) {
+        if (Boolean.FALSE.equals(val)) {
+            handler.append(new Error(propertyName, message));
+            return false;
+        }
+        return true;
+    }
+
+    default boolean assertArgumentGreaterThan(int val, int min, String propertyName, String message, ValidationHandler handler) {
+        if (val <= min) {
+            handler.append(new Error(propertyName, message));
+            return false;
+        }
+        return true;
+    }
+
+    default boolean assertArgumentGreaterOrEquals(int val, int min, String propertyName, String message, ValidationHandler handler) {
+        if (val < min) {
+            handler.append(new Error(propertyName, message));
+            return false;
+        }
+        return true;
+    }
+
+    default boolean assertArgumentPattern(String val, String pattern, String propertyName, String message, ValidationHandler handler) {
+        return assertArgumentPattern(val, PatternCache.get(pattern), propertyName, message, handler);
+    }
+
+    default boolean assertArgumentPattern(String val, Pattern pattern, String propertyName, String message, ValidationHandler handler) {
+        if (val != null && !pattern.matcher(val).matches()) {
+            handler.append(new Error(propertyName, message));
+            return false;
+        }
+        return true;
+    }
+
+    default boolean assertArgumentEmail(String val, String propertyName, String message, ValidationHandler handler) {
+        if (val != null && !FormatUtils.isValidEmail(val)) {
+            handler.append(new Error(propertyName, message));
+            return false;
+        }
+        return true;
+    }
+
+    default boolean assertArgumentPhone(String val, String propertyName, String message, ValidationHandler handler) {
+        if (val != null && !FormatUtils.isValidPhone(val)) {
+            handler.append(new Error(propertyName, message));
+            return false;
+        }
+        return true;
+    }
+
+    default boolean assertArgumentCep(String val, String propertyName, String message, ValidationHandler handler) {
+        if (val != null && !FormatUtils.isValidCep(val)) {
+            handler.append(new Error(propertyName, message));
+            return false;
+        }
+        return true;
+    }
+
+    default boolean assertArgumentSku(String val, String propertyName, String message, ValidationHandler handler) {
+        if (val != null && !FormatUtils.isValidSku(val)) {
+            handler.append(new Error(propertyName, message));
+            return false;
+        }
+        return true;
+    }
+
+    default boolean assertArgumentSlug(String val, String propertyName, String message, ValidationHandler handler) {
+        if (val != null && !FormatUtils.isValidSlug(val)) {
+            handler.append(new Error(propertyName, message));
+            return false;
+        }
+        return true;
+    }
+
+    default <T> Set<T> assertArgumentNotEmpty(Set<T> val, String propertyName, String message, ValidationHandler handler) {
+        if (val == null || val.isEmpty()) {
+            handler.append(new Error(propertyName, message));
+        }
+        return val;
+    }
+
+    default <T> List<T> assertArgumentNotEmpty(List<T> val, String propertyName, String message, ValidationHandler handler) {
+        if (val == null || val.isEmpty()) {
+            handler.append(new Error(propertyName, message));
+        }
+        return val;
+    }
 }
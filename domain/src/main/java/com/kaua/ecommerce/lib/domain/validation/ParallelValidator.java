@@ -0,0 +1,136 @@
+package com.kaua.ecommerce.lib.domain.validation;
+
+import com.kaua.ecommerce.lib.domain.validation.handler.NotificationHandler;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Validates large collections by splitting them across a {@link ForkJoinPool}.
+ * <p>Each task collects into its own {@link NotificationHandler}, and the handlers are merged
+ * in item order through {@link ValidationHandler#append(ValidationHandler)}. Error properties are
+ * prefixed with the row index, so an error on {@code price} of the 42nd item becomes
+ * {@code [42].price}.</p>
+ */
+public final class ParallelValidator {
+
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    private ParallelValidator() {}
+
+    public static <T> NotificationHandler validate(
+            final List<T> items,
+            final BiFunction<T, ValidationHandler, Validator> aValidatorFactory
+    ) {
+        return validate(items, aValidatorFactory, ForkJoinPool.commonPool());
+    }
+
+    public static <T> NotificationHandler validate(
+            final List<T> items,
+            final BiFunction<T, ValidationHandler, Validator> aValidatorFactory,
+            final ForkJoinPool aPool
+    ) {
+        return run(items, (item, handler) -> aValidatorFactory.apply(item, handler).validate(), aPool);
+    }
+
+    public static <T> NotificationHandler validateEach(
+            final List<T> items,
+            final Function<T, ValidationHandler.Validation<?>> aValidation
+    ) {
+        return validateEach(items, aValidation, ForkJoinPool.commonPool());
+    }
+
+    public static <T> NotificationHandler validateEach(
+            final List<T> items,
+            final Function<T, ValidationHandler.Validation<?>> aValidation,
+            final ForkJoinPool aPool
+    ) {
+        return run(items, (item, handler) -> aValidation.apply(item).validate(), aPool);
+    }
+
+    private static <T> NotificationHandler run(
+            final List<T> items,
+            final BiConsumer<T, ValidationHandler> aValidation,
+            final ForkJoinPool aPool
+    ) {
+        if (items == null || items.isEmpty()) {
+            return NotificationHandler.create();
+        }
+
+        final var aThreshold = Math.max(
+                DEFAULT_THRESHOLD,
+                items.size() / (aPool.getParallelism() * 4)
+        );
+
+        return aPool.invoke(new ValidationTask<>(items, aValidation, 0, items.size(), aThreshold));
+    }
+
+    private static String indexed(final int aIndex, final String aProperty) {
+        final var aPrefix = "[" + aIndex + "]";
+        return aProperty == null || aProperty.isEmpty() ? aPrefix : aPrefix + "." + aProperty;
+    }
+
+    private static class ValidationTask<T> extends RecursiveTask<NotificationHandler> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> items;
+        private final BiConsumer<T, ValidationHandler> validation;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private ValidationTask(
+                final List<T> items,
+                final BiConsumer<T, ValidationHandler> validation,
+                final int from,
+                final int to,
+                final int threshold
+        ) {
+            this.items = items;
+            this.validation = validation;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected NotificationHandler compute() {
+            if (to - from <= threshold) {
+                return computeDirectly();
+            }
+
+            final var aMiddle = (from + to) >>> 1;
+            final var aLeft = new ValidationTask<>(items, validation, from, aMiddle, threshold);
+            final var aRight = new ValidationTask<>(items, validation, aMiddle, to, threshold);
+
+            aLeft.fork();
+            final var aRightHandler = aRight.compute();
+            return aLeft.join().append(aRightHandler);
+        }
+
+        private NotificationHandler computeDirectly() {
+            final var aHandler = NotificationHandler.create();
+            final var aRowHandler = NotificationHandler.create();
+
+            for (int i = from; i < to; i++) {
+                final var aItem = items.get(i);
+                aRowHandler.reset().validate(() -> {
+                    validation.accept(aItem, aRowHandler);
+                    return null;
+                });
+
+                if (aRowHandler.hasError()) {
+                    for (final Error aError : aRowHandler.getErrors()) {
+                        aHandler.append(new Error(indexed(i, aError.property()), aError.message()));
+                    }
+                }
+            }
+            return aHandler;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.kaua.ecommerce.lib.domain.validation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded, thread-safe cache of compiled {@link Pattern}s used by
+ * {@link AssertionConcern#assertArgumentPattern(String, String, String, String)}.
+ * <p>When the cache is full an arbitrary entry is evicted, so a stream of dynamic
+ * patterns can never grow it past {@link #MAX_SIZE}. Keep an eye on {@link #misses()}:
+ * a steadily growing value means callers are building patterns at runtime and should
+ * hold a precompiled {@link Pattern} instead.</p>
+ */
+public final class PatternCache {
+
+    public static final int MAX_SIZE = 256;
+
+    private static final Map<String, Pattern> CACHE = new ConcurrentHashMap<>();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private PatternCache() {}
+
+    public static Pattern get(final String aRegex) {
+        final var aPattern = CACHE.get(aRegex);
+        if (aPattern != null) {
+            return aPattern;
+        }
+
+        MISSES.increment();
+        final var aCompiled = Pattern.compile(aRegex);
+
+        if (CACHE.size() >= MAX_SIZE) {
+            final var it = CACHE.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+
+        final var aPrevious = CACHE.putIfAbsent(aRegex, aCompiled);
+        return aPrevious != null ? aPrevious : aCompiled;
+    }
+
+    public static long misses() {
+        return MISSES.sum();
+    }
+
+    public static int size() {
+        return CACHE.size();
+    }
+
+    public static void clear() {
+        CACHE.clear();
+        MISSES.reset();
+    }
+}
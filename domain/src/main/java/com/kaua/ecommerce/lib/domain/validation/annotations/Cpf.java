@@ -0,0 +1,19 @@
+package com.kaua.ecommerce.lib.domain.validation.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The string component must be a valid CPF, see {@code CpfUtils#validateCpf}. Null values are ignored.
+ * <p>Handled at compile time by the validator annotation processor, see {@link ValidatedRecord}.</p>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Cpf {
+
+    String message() default "should be a valid cpf";
+
+    String property() default "";
+}
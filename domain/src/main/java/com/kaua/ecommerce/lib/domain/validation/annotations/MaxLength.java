@@ -0,0 +1,21 @@
+package com.kaua.ecommerce.lib.domain.validation.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The string component must not be longer than {@link #value()} characters. Null values are ignored.
+ * <p>Handled at compile time by the validator annotation processor, see {@link ValidatedRecord}.</p>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface MaxLength {
+
+    int value();
+
+    String message() default "should not be greater than {value} characters";
+
+    String property() default "";
+}
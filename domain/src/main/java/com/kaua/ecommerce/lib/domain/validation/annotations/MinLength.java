@@ -0,0 +1,21 @@
+package com.kaua.ecommerce.lib.domain.validation.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The string component must not be shorter than {@link #value()} characters. Null values are ignored.
+ * <p>Handled at compile time by the validator annotation processor, see {@link ValidatedRecord}.</p>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface MinLength {
+
+    int value();
+
+    String message() default "should not be less than {value} characters";
+
+    String property() default "";
+}
@@ -0,0 +1,19 @@
+package com.kaua.ecommerce.lib.domain.validation.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The component must not be null.
+ * <p>Handled at compile time by the validator annotation processor, see {@link ValidatedRecord}.</p>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface NotNull {
+
+    String message() default "should not be null";
+
+    String property() default "";
+}
@@ -0,0 +1,21 @@
+package com.kaua.ecommerce.lib.domain.validation.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record for which a {@code <RecordName>Validator} should be generated at compile time.
+ * <p>The generated class extends {@link com.kaua.ecommerce.lib.domain.validation.Validator} and checks
+ * the constraint annotations of each component ({@link NotNull}, {@link NotEmpty}, {@link MinLength},
+ * {@link MaxLength}, {@link Pattern}, {@link Cpf}) in declaration order, appending the failures to the
+ * {@link com.kaua.ecommerce.lib.domain.validation.ValidationHandler}. Patterns are compiled once and no
+ * reflection is used at runtime.</p>
+ * <p>Requires the processor on the annotation processor path:
+ * <code>annotationProcessor 'com.kaua.ecommerce.common-lib.processor:processor:&lt;version&gt;'</code></p>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ValidatedRecord {
+}
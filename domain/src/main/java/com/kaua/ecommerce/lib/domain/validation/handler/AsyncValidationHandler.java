@@ -0,0 +1,167 @@
+package com.kaua.ecommerce.lib.domain.validation.handler;
+
+import com.kaua.ecommerce.lib.domain.exceptions.DomainException;
+import com.kaua.ecommerce.lib.domain.validation.Error;
+import com.kaua.ecommerce.lib.domain.validation.ValidationHandler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link ValidationHandler} that also accepts validations doing I/O (email uniqueness, CPF
+ * blacklist, coupon validity...).
+ * <p>Asynchronous validations registered with {@link #validateAsync(AsyncValidation)} run
+ * concurrently, {@link #await(Duration)} waits for all of them up to a deadline and merges their
+ * errors, in registration order, into the same error list as the synchronous validations.
+ * A validation still running at the deadline is cancelled and reported as an error.
+ * Reactor users can adapt a {@code Mono} with {@code () -> mono.toFuture()}.</p>
+ * <p>Not thread-safe: register and await from the same thread.</p>
+ */
+public class AsyncValidationHandler implements ValidationHandler {
+
+    public static final String DEADLINE_EXCEEDED_MESSAGE = "validation did not complete within %d ms";
+
+    private final ValidationHandler delegate;
+    private final List<PendingValidation> pending = new ArrayList<>();
+
+    private AsyncValidationHandler(final ValidationHandler delegate) {
+        this.delegate = delegate;
+    }
+
+    public static AsyncValidationHandler create() {
+        return new AsyncValidationHandler(NotificationHandler.create());
+    }
+
+    public static AsyncValidationHandler create(final ValidationHandler aDelegate) {
+        return new AsyncValidationHandler(aDelegate);
+    }
+
+    public <T> CompletableFuture<T> validateAsync(final AsyncValidation<T> aValidation) {
+        return validateAsync("", aValidation);
+    }
+
+    /**
+     * Starts an asynchronous validation.
+     *
+     * @param aProperty   property of every error reported by the validation, including a missed deadline,
+     *                    an empty property keeps the properties of the thrown {@link DomainException}
+     * @param aValidation the validation to start
+     * @return the future of the validated value
+     */
+    public <T> CompletableFuture<T> validateAsync(final String aProperty, final AsyncValidation<T> aValidation) {
+        CompletableFuture<T> aFuture;
+        try {
+            aFuture = aValidation.validate().toCompletableFuture();
+        } catch (final Throwable t) {
+            aFuture = CompletableFuture.failedFuture(t);
+        }
+
+        this.pending.add(new PendingValidation(
+                aProperty,
+                aFuture,
+                aFuture.handle((value, ex) -> ex == null ? List.<Error>of() : errorsOf(aProperty, ex))
+        ));
+        return aFuture;
+    }
+
+    /**
+     * Waits for every pending asynchronous validation and merges their errors.
+     *
+     * @param aDeadline maximum time to wait for all pending validations together
+     * @return this handler
+     */
+    public AsyncValidationHandler await(final Duration aDeadline) {
+        if (this.pending.isEmpty()) {
+            return this;
+        }
+
+        final var aAll = CompletableFuture.allOf(this.pending.stream()
+                .map(PendingValidation::errors)
+                .toArray(CompletableFuture[]::new));
+
+        try {
+            aAll.get(aDeadline.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final TimeoutException | ExecutionException ignored) {
+            // reported per validation below
+        }
+
+        for (final PendingValidation aValidation : this.pending) {
+            if (aValidation.errors().isDone()) {
+                aValidation.errors().join().forEach(this.delegate::append);
+            } else {
+                aValidation.future().cancel(true);
+                this.delegate.append(new Error(
+                        aValidation.property(),
+                        DEADLINE_EXCEEDED_MESSAGE.formatted(aDeadline.toMillis())
+                ));
+            }
+        }
+        this.pending.clear();
+        return this;
+    }
+
+    public boolean hasPending() {
+        return !this.pending.isEmpty();
+    }
+
+    @Override
+    public AsyncValidationHandler append(final Error anError) {
+        this.delegate.append(anError);
+        return this;
+    }
+
+    @Override
+    public AsyncValidationHandler append(final ValidationHandler anHandler) {
+        this.delegate.append(anHandler);
+        return this;
+    }
+
+    @Override
+    public <T> T validate(final Validation<T> aValidation) {
+        return this.delegate.validate(aValidation);
+    }
+
+    @Override
+    public List<Error> getErrors() {
+        return this.delegate.getErrors();
+    }
+
+    private static List<Error> errorsOf(final String aProperty, final Throwable aThrowable) {
+        var aCause = aThrowable;
+        while ((aCause instanceof CompletionException || aCause instanceof ExecutionException)
+                && aCause.getCause() != null) {
+            aCause = aCause.getCause();
+        }
+
+        if (aCause instanceof DomainException ex) {
+            if (aProperty.isEmpty()) {
+                return ex.getErrors();
+            }
+            return ex.getErrors().stream()
+                    .map(it -> new Error(aProperty, it.message()))
+                    .toList();
+        }
+        return List.of(new Error(aProperty, aCause.getMessage()));
+    }
+
+    @FunctionalInterface
+    public interface AsyncValidation<T> {
+        CompletionStage<T> validate();
+    }
+
+    private record PendingValidation(
+            String property,
+            CompletableFuture<?> future,
+            CompletableFuture<List<Error>> errors
+    ) {
+    }
+}
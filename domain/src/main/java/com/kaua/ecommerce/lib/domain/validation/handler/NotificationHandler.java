@@ -1,37 +1,114 @@
 package com.kaua.ecommerce.lib.domain.validation.handler;
 
 import com.kaua.ecommerce.lib.domain.exceptions.DomainException;
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
 import com.kaua.ecommerce.lib.domain.validation.Error;
 import com.kaua.ecommerce.lib.domain.validation.ValidationHandler;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class NotificationHandler implements ValidationHandler {
 
-    private final List<Error> errors;
+    private static final ThreadLocal<NotificationHandler> THREAD_HANDLER =
+            ThreadLocal.withInitial(NotificationHandler::new);
 
-    private NotificationHandler(final List<Error> errors) {
-        this.errors = errors;
+    private final NotificationLimits limits;
+    private List<Error> errors;
+    private Map<Error, int[]> occurrences;
+    private long droppedCount;
+    private ValidationException failFastException;
+
+    private NotificationHandler() {
+        this(null);
+    }
+
+    private NotificationHandler(final NotificationLimits limits) {
+        this.limits = limits == null || limits.isUnlimited() ? null : limits;
     }
 
     public static NotificationHandler create() {
-        return new NotificationHandler(new ArrayList<>());
+        return new NotificationHandler();
     }
 
     public static NotificationHandler create(final Error anError) {
-        return new NotificationHandler(new ArrayList<>()).append(anError);
+        return new NotificationHandler().append(anError);
+    }
+
+    /**
+     * Creates a handler that honours the given caps in {@link #append(Error)},
+     * {@link #append(ValidationHandler)} and {@link #validate(Validation)}.
+     *
+     * @param aLimits the {@link NotificationLimits} to apply
+     * @return a new {@link NotificationHandler}
+     */
+    public static NotificationHandler create(final NotificationLimits aLimits) {
+        return new NotificationHandler(aLimits);
+    }
+
+    /**
+     * Returns the handler bound to the current thread, already reset.
+     * <p>Meant for hot loops (batch consumers, bulk imports) that validate one item at a time:
+     * the handler and its error list are reused, so the happy path does not allocate.
+     * The handler and the list returned by {@link #getErrors()} are only valid until the next
+     * call on the same thread, copy the errors if they need to outlive the iteration.</p>
+     *
+     * @return the reset {@link NotificationHandler} of the current thread
+     */
+    public static NotificationHandler forCurrentThread() {
+        return THREAD_HANDLER.get().reset();
+    }
+
+    /**
+     * Clears the collected errors keeping the already allocated list for reuse.
+     *
+     * @return this handler
+     */
+    public NotificationHandler reset() {
+        if (this.errors != null) {
+            this.errors.clear();
+        }
+        if (this.occurrences != null) {
+            this.occurrences.clear();
+        }
+        this.droppedCount = 0;
+        this.failFastException = null;
+        return this;
     }
 
     @Override
     public NotificationHandler append(Error anError) {
-        this.errors.add(anError);
+        accept(anError, 1, false);
         return this;
     }
 
+    /**
+     * Appends the errors of another handler. When it is a {@link NotificationHandler} its
+     * occurrence counts and dropped count are carried over, so errors it deduplicated stay
+     * deduplicated here even when this handler has no limits.
+     */
     @Override
     public NotificationHandler append(ValidationHandler anHandler) {
-        this.errors.addAll(anHandler.getErrors());
+        final var aErrors = anHandler.getErrors();
+        if (aErrors == null || aErrors.isEmpty()) {
+            return this;
+        }
+
+        final var aOther = anHandler instanceof NotificationHandler aNotification ? aNotification : null;
+        final var aCounts = aOther == null ? null : aOther.occurrences;
+        if (this.limits == null && aCounts == null && this.occurrences == null) {
+            errors().addAll(aErrors);
+        } else {
+            for (final Error aError : aErrors) {
+                final var aCount = aCounts == null ? null : aCounts.get(aError);
+                accept(aError, aCount == null ? 1 : aCount[0], aCount != null);
+            }
+        }
+        if (aOther != null) {
+            this.droppedCount += aOther.droppedCount;
+        }
         return this;
     }
 
@@ -40,15 +117,94 @@ public class NotificationHandler implements ValidationHandler {
         try {
             return aValidation.validate();
         } catch (final DomainException ex) {
-            this.errors.addAll(ex.getErrors());
+            if (ex == this.failFastException) {
+                throw ex;
+            }
+            for (final Error aError : ex.getErrors()) {
+                accept(aError, 1, false);
+            }
         } catch (final Throwable t) {
-            this.errors.add(new Error(t.getMessage()));
+            accept(new Error(t.getMessage()), 1, false);
         }
         return null;
     }
 
+    /**
+     * @return the mutable list of collected errors, allocated on first use
+     */
     @Override
     public List<Error> getErrors() {
+        return errors();
+    }
+
+    @Override
+    public boolean hasError() {
+        return this.errors != null && !this.errors.isEmpty();
+    }
+
+    /**
+     * Returns how many times the error was appended. Without deduplication every kept
+     * error counts once.
+     *
+     * @param anError the {@link Error} to look up
+     * @return the number of occurrences, {@code 0} when the error was not kept
+     */
+    public int getOccurrences(final Error anError) {
+        final var aCount = this.occurrences == null ? null : this.occurrences.get(anError);
+        if (aCount != null) {
+            return aCount[0];
+        }
+        return this.errors != null && this.errors.contains(anError) ? 1 : 0;
+    }
+
+    /**
+     * @return the number of errors discarded because {@link NotificationLimits#maxErrors()} was reached
+     */
+    public long getDroppedCount() {
+        return this.droppedCount;
+    }
+
+    private void accept(final Error anError, final int aCount, final boolean aCounted) {
+        if (countOccurrence(anError, aCount)) {
+            return;
+        }
+
+        if (this.limits != null && this.limits.maxErrors() > 0 && getErrors().size() >= this.limits.maxErrors()) {
+            this.droppedCount += aCount;
+            return;
+        }
+
+        errors().add(anError);
+        if (aCounted || (this.limits != null && this.limits.deduplicate())) {
+            occurrences().put(anError, new int[]{aCount});
+        }
+
+        if (this.limits != null && this.limits.failFastAfter() > 0 && this.errors.size() >= this.limits.failFastAfter()) {
+            this.failFastException = ValidationException.with(List.copyOf(this.errors));
+            throw this.failFastException;
+        }
+    }
+
+    private boolean countOccurrence(final Error anError, final int aCount) {
+        final var aCounter = this.occurrences == null ? null : this.occurrences.get(anError);
+        if (aCounter == null) {
+            return false;
+        }
+        aCounter[0] += aCount;
+        return true;
+    }
+
+    private List<Error> errors() {
+        if (this.errors == null) {
+            this.errors = new ArrayList<>();
+        }
         return this.errors;
     }
+
+    private Map<Error, int[]> occurrences() {
+        if (this.occurrences == null) {
+            this.occurrences = new HashMap<>();
+        }
+        return this.occurrences;
+    }
 }
@@ -0,0 +1,50 @@
+package com.kaua.ecommerce.lib.domain.validation.handler;
+
+import com.kaua.ecommerce.lib.domain.validation.AssertionConcern;
+
+/**
+ * Caps applied by a {@link NotificationHandler} while collecting errors.
+ *
+ * @param maxErrors     maximum number of errors kept, further errors are only counted as dropped ({@code 0} = unlimited)
+ * @param failFastAfter throws a {@link com.kaua.ecommerce.lib.domain.exceptions.ValidationException} as soon as this
+ *                      many errors were collected ({@code 0} = never), cannot exceed a non zero {@code maxErrors}
+ * @param deduplicate   keeps a single entry per {@code (property, message)} pair and counts its occurrences
+ */
+public record NotificationLimits(
+        int maxErrors,
+        int failFastAfter,
+        boolean deduplicate
+) implements AssertionConcern {
+
+    private static final NotificationLimits UNLIMITED = new NotificationLimits(0, 0, false);
+
+    public NotificationLimits {
+        this.assertArgumentGreaterOrEquals(maxErrors, 0, "maxErrors", "should not be negative");
+        this.assertArgumentGreaterOrEquals(failFastAfter, 0, "failFastAfter", "should not be negative");
+        this.assertConditionTrue(
+                maxErrors == 0 || failFastAfter <= maxErrors,
+                "failFastAfter",
+                "should not be greater than maxErrors"
+        );
+    }
+
+    public static NotificationLimits unlimited() {
+        return UNLIMITED;
+    }
+
+    public static NotificationLimits maxErrors(final int maxErrors) {
+        return new NotificationLimits(maxErrors, 0, false);
+    }
+
+    public static NotificationLimits failFastAfter(final int failFastAfter) {
+        return new NotificationLimits(0, failFastAfter, false);
+    }
+
+    public NotificationLimits withDeduplication() {
+        return new NotificationLimits(maxErrors, failFastAfter, true);
+    }
+
+    boolean isUnlimited() {
+        return maxErrors == 0 && failFastAfter == 0 && !deduplicate;
+    }
+}
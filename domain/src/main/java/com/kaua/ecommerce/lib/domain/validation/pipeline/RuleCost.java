@@ -0,0 +1,23 @@
+package com.kaua.ecommerce.lib.domain.validation.pipeline;
+
+/**
+ * Relative cost of a {@link ValidationRule}, cheaper rules run first.
+ */
+public enum RuleCost {
+
+    NULL_CHECK(0),
+    LENGTH(10),
+    PATTERN(100),
+    CHECKSUM(1_000),
+    REMOTE(100_000);
+
+    private final int weight;
+
+    RuleCost(final int weight) {
+        this.weight = weight;
+    }
+
+    public int weight() {
+        return weight;
+    }
+}
@@ -0,0 +1,158 @@
+package com.kaua.ecommerce.lib.domain.validation.pipeline;
+
+import com.kaua.ecommerce.lib.domain.validation.Error;
+import com.kaua.ecommerce.lib.domain.validation.ValidationHandler;
+import com.kaua.ecommerce.lib.domain.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Runs {@link ValidationRule}s grouped by property, cheapest first.
+ * <p>Once a rule of a property fails the remaining rules of that property are skipped, so a
+ * null field never reaches its regex, checksum or remote rules. Properties are evaluated in
+ * the order they were first declared. Pipelines are immutable and thread-safe, build them once
+ * and reuse them.</p>
+ *
+ * <pre>{@code
+ * private static final RulePipeline<SignUpInput> PIPELINE = RulePipeline.<SignUpInput>builder()
+ *         .rule("cpf", RuleCost.CHECKSUM, in -> CpfUtils.validateCpf(in.cpf()), "should be a valid cpf")
+ *         .rule("cpf", RuleCost.NULL_CHECK, in -> in.cpf() != null, "should not be null")
+ *         .recordTimings()
+ *         .build();
+ * }</pre>
+ */
+public final class RulePipeline<T> {
+
+    private final CompiledRule<T>[][] rules;
+    private final boolean recordTimings;
+
+    private RulePipeline(final CompiledRule<T>[][] rules, final boolean recordTimings) {
+        this.rules = rules;
+        this.recordTimings = recordTimings;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public void validate(final T aTarget, final ValidationHandler aHandler) {
+        for (final CompiledRule<T>[] aPropertyRules : this.rules) {
+            for (final CompiledRule<T> aRule : aPropertyRules) {
+                if (!aRule.test(aTarget, this.recordTimings)) {
+                    aHandler.append(new Error(aRule.rule.property(), aRule.rule.message()));
+                    break;
+                }
+            }
+        }
+    }
+
+    public Validator validator(final T aTarget, final ValidationHandler aHandler) {
+        return new Validator(aHandler) {
+            @Override
+            public void validate() {
+                RulePipeline.this.validate(aTarget, validationHandler());
+            }
+        };
+    }
+
+    /**
+     * @return a snapshot of the accumulated timings per rule, empty values when timings are not recorded
+     */
+    public List<RuleTiming> timings() {
+        final var aTimings = new ArrayList<RuleTiming>();
+        for (final CompiledRule<T>[] aPropertyRules : this.rules) {
+            for (final CompiledRule<T> aRule : aPropertyRules) {
+                aTimings.add(new RuleTiming(
+                        aRule.rule.property(),
+                        aRule.rule.name(),
+                        aRule.invocations.sum(),
+                        aRule.failures.sum(),
+                        aRule.nanos.sum()
+                ));
+            }
+        }
+        return aTimings;
+    }
+
+    public static final class Builder<T> {
+
+        private final LinkedHashMap<String, List<ValidationRule<T>>> rules = new LinkedHashMap<>();
+        private boolean recordTimings;
+
+        private Builder() {}
+
+        public Builder<T> rule(
+                final String aProperty,
+                final RuleCost aCost,
+                final Predicate<T> aCheck,
+                final String aMessage
+        ) {
+            return rule(new ValidationRule<>(aProperty, aCost.name(), aCost.weight(), aCheck, aMessage));
+        }
+
+        public Builder<T> rule(
+                final String aProperty,
+                final String aName,
+                final int aCost,
+                final Predicate<T> aCheck,
+                final String aMessage
+        ) {
+            return rule(new ValidationRule<>(aProperty, aName, aCost, aCheck, aMessage));
+        }
+
+        public Builder<T> rule(final ValidationRule<T> aRule) {
+            this.rules.computeIfAbsent(aRule.property(), k -> new ArrayList<>()).add(aRule);
+            return this;
+        }
+
+        public Builder<T> recordTimings() {
+            this.recordTimings = true;
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public RulePipeline<T> build() {
+            final var aCompiled = (CompiledRule<T>[][]) new CompiledRule<?>[this.rules.size()][];
+            var i = 0;
+            for (final List<ValidationRule<T>> aPropertyRules : this.rules.values()) {
+                aCompiled[i++] = (CompiledRule<T>[]) aPropertyRules.stream()
+                        .sorted(Comparator.comparingInt(ValidationRule::cost))
+                        .map(CompiledRule::new)
+                        .toArray(CompiledRule<?>[]::new);
+            }
+            return new RulePipeline<T>(aCompiled, this.recordTimings);
+        }
+    }
+
+    private static final class CompiledRule<T> {
+
+        private final ValidationRule<T> rule;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private CompiledRule(final ValidationRule<T> rule) {
+            this.rule = rule;
+        }
+
+        private boolean test(final T aTarget, final boolean aRecordTimings) {
+            if (!aRecordTimings) {
+                return this.rule.check().test(aTarget);
+            }
+
+            final var aStart = System.nanoTime();
+            final var aPassed = this.rule.check().test(aTarget);
+            this.nanos.add(System.nanoTime() - aStart);
+            this.invocations.increment();
+            if (!aPassed) {
+                this.failures.increment();
+            }
+            return aPassed;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.kaua.ecommerce.lib.domain.validation.pipeline;
+
+import java.time.Duration;
+
+public record RuleTiming(
+        String property,
+        String name,
+        long invocations,
+        long failures,
+        long totalNanos
+) {
+
+    public Duration total() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    public long averageNanos() {
+        return invocations == 0 ? 0 : totalNanos / invocations;
+    }
+}
@@ -0,0 +1,23 @@
+package com.kaua.ecommerce.lib.domain.validation.pipeline;
+
+import com.kaua.ecommerce.lib.domain.validation.AssertionConcern;
+
+import java.util.function.Predicate;
+
+/**
+ * A single check of a {@link RulePipeline}. The rule passes when {@code check} returns {@code true}.
+ */
+public record ValidationRule<T>(
+        String property,
+        String name,
+        int cost,
+        Predicate<T> check,
+        String message
+) implements AssertionConcern {
+
+    public ValidationRule {
+        this.assertArgumentNotNull(property, "property", "should not be null");
+        this.assertArgumentNotEmpty(name, "name", "should not be empty");
+        this.assertArgumentNotNull(check, "check", "should not be null");
+    }
+}
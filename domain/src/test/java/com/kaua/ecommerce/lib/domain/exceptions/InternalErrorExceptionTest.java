@@ -61,4 +61,25 @@ class InternalErrorExceptionTest extends UnitTest {
         Assertions.assertEquals(message, internalErrorException.getMessage());
         Assertions.assertEquals(statusCode, internalErrorException.getStatusCode());
     }
+
+    @Test
+    void givenATemplateAndArgs_whenCallInternalErrorExceptionFormatted_ThenFormatMessageOnlyOnce() {
+        // given
+        final var cause = new RuntimeException("Cause");
+        final var expectedMessage = "Error observed from users-ms [resourceId:123]";
+
+        // when
+        final var internalErrorException = InternalErrorException.formatted("Error observed from %s [resourceId:%s]", "users-ms", "123");
+        final var internalErrorExceptionWithCause = InternalErrorException.formatted(cause, "Error observed from %s [resourceId:%s]", "users-ms", "123");
+        final var internalErrorExceptionWithStatus = InternalErrorException.formatted(503, "Error observed from %s [resourceId:%s]", "users-ms", "123");
+
+        // then
+        Assertions.assertEquals(expectedMessage, internalErrorException.getMessage());
+        Assertions.assertSame(internalErrorException.getMessage(), internalErrorException.getMessage());
+        Assertions.assertEquals(0, internalErrorException.getStatusCode());
+        Assertions.assertEquals(expectedMessage, internalErrorExceptionWithCause.getMessage());
+        Assertions.assertEquals(cause, internalErrorExceptionWithCause.getCause());
+        Assertions.assertEquals(expectedMessage, internalErrorExceptionWithStatus.getMessage());
+        Assertions.assertEquals(503, internalErrorExceptionWithStatus.getStatusCode());
+    }
 }
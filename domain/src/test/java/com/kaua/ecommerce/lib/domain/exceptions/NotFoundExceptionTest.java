@@ -113,6 +113,39 @@ class NotFoundExceptionTest extends UnitTest {
         Assertions.assertEquals(expectedErrorMessage, notFoundException.getMessage());
     }
 
+    @Test
+    void givenATemplateAndArgs_whenCallNotFoundExceptionFormatted_ThenReturnFormattedMessage() {
+        // given
+        final var expectedErrorMessage = "Not found observed from users-ms [resourceId:123]";
+
+        // when
+        final var notFoundException = NotFoundException.formatted("Not found observed from %s [resourceId:%s]", "users-ms", "123");
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, notFoundException.getMessage());
+        Assertions.assertEquals(NotFoundException.class.getName() + ": " + expectedErrorMessage, notFoundException.toString());
+    }
+
+    @Test
+    void givenAMessage_whenCallNotFoundExceptionPreallocated_ThenReturnImmutableSharedException() {
+        // given
+        final var expectedErrorMessage = "Not found observed from users-ms";
+
+        // when
+        final var notFoundException = NotFoundException.preallocated(expectedErrorMessage);
+        notFoundException.addSuppressed(new RuntimeException("suppressed"));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, notFoundException.getMessage());
+        Assertions.assertEquals(0, notFoundException.getStackTrace().length);
+        Assertions.assertEquals(0, notFoundException.getSuppressed().length);
+        Assertions.assertNull(notFoundException.getCause());
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> notFoundException.initCause(new RuntimeException("cause")));
+        Assertions.assertTrue(notFoundException.isPreallocated());
+        Assertions.assertFalse(NotFoundException.with(expectedErrorMessage).isPreallocated());
+    }
+
     private static class SampleAggregate extends AggregateRoot<SampleIdentifier> {
         public SampleAggregate(SampleIdentifier id) {
             super(id);
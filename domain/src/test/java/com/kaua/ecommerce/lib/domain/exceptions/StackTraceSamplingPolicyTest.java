@@ -0,0 +1,60 @@
+package com.kaua.ecommerce.lib.domain.exceptions;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class StackTraceSamplingPolicyTest extends UnitTest {
+
+    @Test
+    void givenADisabledPolicy_whenShouldCapture_thenReturnFalse() {
+        final var aPolicy = StackTraceSamplingPolicy.disabled();
+
+        Assertions.assertFalse(aPolicy.shouldCapture(InternalErrorException.class));
+    }
+
+    @Test
+    void givenAOneInThreePolicy_whenShouldCaptureNineTimes_thenCaptureThreePerClass() {
+        final var aPolicy = new SampledStackTracePolicy(3, 100, () -> 0L);
+
+        var aInternalErrors = 0;
+        var aNotFounds = 0;
+        for (int i = 0; i < 9; i++) {
+            if (aPolicy.shouldCapture(InternalErrorException.class)) aInternalErrors++;
+            if (aPolicy.shouldCapture(NotFoundException.class)) aNotFounds++;
+        }
+
+        Assertions.assertEquals(3, aInternalErrors);
+        Assertions.assertEquals(3, aNotFounds);
+    }
+
+    @Test
+    void givenAMaxPerSecond_whenShouldCaptureAboveTheCap_thenCaptureOnlyUpToTheCapEachSecond() {
+        final var aNow = new AtomicLong();
+        final var aPolicy = new SampledStackTracePolicy(1, 2, aNow::get);
+
+        var aCaptured = 0;
+        for (int i = 0; i < 10; i++) {
+            if (aPolicy.shouldCapture(InternalErrorException.class)) aCaptured++;
+        }
+        Assertions.assertEquals(2, aCaptured);
+
+        aNow.set(1_000_000_000L);
+        Assertions.assertTrue(aPolicy.shouldCapture(InternalErrorException.class));
+    }
+
+    @Test
+    void givenAnInvalidSampleRate_whenCreatePolicy_thenThrowIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StackTraceSamplingPolicy.oneIn(0, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StackTraceSamplingPolicy.oneIn(10, 0));
+    }
+
+    @Test
+    void givenTheDefaultPolicy_whenCreateNoStacktraceException_thenStackTraceIsEmpty() {
+        final var aException = new NoStacktraceException("message");
+
+        Assertions.assertEquals(0, aException.getStackTrace().length);
+    }
+}
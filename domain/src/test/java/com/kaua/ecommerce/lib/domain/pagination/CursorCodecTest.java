@@ -0,0 +1,87 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+public class CursorCodecTest extends UnitTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void givenACursor_whenEncodeAndDecode_thenReturnSameValues() {
+        final var aCodec = CursorCodec.create(SECRET);
+        final var aCursor = Cursor.before(
+                Instant.parse("2024-05-01T10:15:30.123456Z"),
+                UUID.randomUUID(),
+                "Camiseta Ação",
+                -42L,
+                7,
+                true,
+                null
+        );
+
+        final var aDecoded = aCodec.decode(aCodec.encode(aCursor));
+
+        Assertions.assertEquals(Cursor.Direction.BEFORE, aDecoded.direction());
+        Assertions.assertEquals(aCursor.values().subList(0, 4), aDecoded.values().subList(0, 4));
+        Assertions.assertEquals(7L, aDecoded.values().get(4));
+        Assertions.assertEquals(true, aDecoded.values().get(5));
+        Assertions.assertNull(aDecoded.values().get(6));
+    }
+
+    @Test
+    void givenATypicalSortKey_whenEncode_thenReturnCompactUrlSafeCursor() {
+        final var aCodec = CursorCodec.create(SECRET);
+
+        final var aEncoded = aCodec.encode(Cursor.after(Instant.parse("2024-05-01T10:15:30.123456Z"), UUID.randomUUID()));
+
+        Assertions.assertTrue(aEncoded.length() <= 56, aEncoded);
+        Assertions.assertTrue(aEncoded.matches("[A-Za-z0-9_-]+"), aEncoded);
+    }
+
+    @Test
+    void givenInstantsBeyondTheMicrosRange_whenEncodeAndDecode_thenReturnSameInstants() {
+        final var aCodec = CursorCodec.create(SECRET);
+        final var aCursor = Cursor.after(Instant.MIN, Instant.MAX.truncatedTo(ChronoUnit.MICROS));
+
+        final var aDecoded = aCodec.decode(aCodec.encode(aCursor));
+
+        Assertions.assertEquals(aCursor.values(), aDecoded.values());
+    }
+
+    @Test
+    void givenATamperedCursor_whenDecode_thenThrowValidationException() {
+        final var aCodec = CursorCodec.create(SECRET);
+        final var aBytes = Base64.getUrlDecoder().decode(aCodec.encode(Cursor.after(10L)));
+        aBytes[3] ^= 1;
+        final var aTampered = Base64.getUrlEncoder().withoutPadding().encodeToString(aBytes);
+
+        final var aException = Assertions.assertThrows(ValidationException.class, () -> aCodec.decode(aTampered));
+
+        Assertions.assertEquals("cursor", aException.getErrors().get(0).property());
+        Assertions.assertEquals(CursorCodec.INVALID_CURSOR_MESSAGE, aException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenACursorSignedWithAnotherSecret_whenDecode_thenThrowValidationException() {
+        final var aEncoded = CursorCodec.create("another-secret-with-32-bytes-abc".getBytes(StandardCharsets.UTF_8))
+                .encode(Cursor.after(10L));
+
+        Assertions.assertThrows(ValidationException.class, () -> CursorCodec.create(SECRET).decode(aEncoded));
+        Assertions.assertThrows(ValidationException.class, () -> CursorCodec.create(SECRET).decode("not a cursor!"));
+        Assertions.assertThrows(ValidationException.class, () -> CursorCodec.create(SECRET).decode("AA"));
+    }
+
+    @Test
+    void givenAShortSecret_whenCreate_thenThrowIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CursorCodec.create(new byte[8]));
+    }
+}
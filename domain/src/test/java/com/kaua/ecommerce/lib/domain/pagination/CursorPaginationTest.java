@@ -0,0 +1,65 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+public class CursorPaginationTest extends UnitTest {
+
+    private static final CursorCodec CODEC = CursorCodec.create("0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+    private static final List<Long> ROWS = LongStream.rangeClosed(1, 7).boxed().toList();
+
+    @Test
+    void givenRows_whenBrowseForwardAndBackward_thenReturnConsistentPages() {
+        final var aFirst = page(null, 3);
+        Assertions.assertEquals(List.of(1L, 2L, 3L), aFirst.items());
+        Assertions.assertTrue(aFirst.hasNext());
+        Assertions.assertFalse(aFirst.hasPrev());
+
+        final var aSecond = page(aFirst.next(), 3);
+        Assertions.assertEquals(List.of(4L, 5L, 6L), aSecond.items());
+        Assertions.assertTrue(aSecond.hasNext());
+        Assertions.assertTrue(aSecond.hasPrev());
+
+        final var aLast = page(aSecond.next(), 3);
+        Assertions.assertEquals(List.of(7L), aLast.items());
+        Assertions.assertFalse(aLast.hasNext());
+
+        final var aBack = page(aLast.prev(), 3);
+        Assertions.assertEquals(List.of(4L, 5L, 6L), aBack.items());
+        Assertions.assertTrue(aBack.hasPrev());
+
+        final var aBackToFirst = page(aBack.prev(), 3);
+        Assertions.assertEquals(List.of(1L, 2L, 3L), aBackToFirst.items());
+        Assertions.assertFalse(aBackToFirst.hasPrev());
+        Assertions.assertTrue(aBackToFirst.hasNext());
+    }
+
+    @Test
+    void givenACursorPagination_whenMap_thenKeepCursors() {
+        final var aPage = page(null, 3);
+
+        final var aMapped = aPage.map(String::valueOf);
+
+        Assertions.assertEquals(List.of("1", "2", "3"), aMapped.items());
+        Assertions.assertEquals(aPage.next(), aMapped.next());
+        Assertions.assertEquals(aPage.limit(), aMapped.limit());
+    }
+
+    // simulates "WHERE id > ? ORDER BY id ASC LIMIT n + 1" and its inverted backward query
+    private static CursorPagination<Long> page(final String aEncoded, final int aLimit) {
+        final var aCursor = aEncoded == null ? null : CODEC.decode(aEncoded);
+        final var aBoundary = aCursor == null ? null : (Long) aCursor.values().get(0);
+
+        final var aRows = aCursor != null && aCursor.isBackward()
+                ? ROWS.stream().filter(it -> it < aBoundary).sorted(Comparator.reverseOrder()).limit(aLimit + 1).toList()
+                : ROWS.stream().filter(it -> aBoundary == null || it > aBoundary).limit(aLimit + 1).toList();
+
+        return CursorPagination.from(aRows, aLimit, aCursor, it -> List.of(it), CODEC);
+    }
+}
@@ -0,0 +1,135 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PaginationCountCacheTest extends UnitTest {
+
+    @Test
+    void givenNoCachedCount_whenMetadata_thenReturnCountFreeMetadataAndCountInBackground() {
+        final var aTasks = new ArrayList<Runnable>();
+        final var aCache = new PaginationCountCache(query -> 95L, aTasks::add, Duration.ofMinutes(1), 10, () -> 0L);
+        final var aQuery = new SearchQuery(0, 10, "Camiseta", "createdAt", "asc");
+
+        final var aFirst = aCache.metadata(aQuery, true);
+        Assertions.assertEquals(PaginationMetadata.Accuracy.UNKNOWN, aFirst.accuracy());
+        Assertions.assertTrue(aFirst.hasNext());
+        Assertions.assertEquals(-1, aFirst.totalItems());
+
+        aCache.metadata(aQuery, true);
+        Assertions.assertEquals(1, aTasks.size());
+        aTasks.get(0).run();
+
+        final var aSecond = aCache.metadata(new SearchQuery(9, 10, "  camiseta ", "name", "DESC"), false);
+        Assertions.assertTrue(aSecond.isExact());
+        Assertions.assertEquals(95, aSecond.totalItems());
+        Assertions.assertEquals(10, aSecond.totalPages());
+        Assertions.assertFalse(aSecond.hasNext());
+    }
+
+    @Test
+    void givenAStaleCount_whenMetadata_thenReturnEstimatedAndRefresh() {
+        final var aNow = new AtomicLong();
+        final var aCounts = new AtomicInteger();
+        final var aCache = new PaginationCountCache(
+                query -> 100L + aCounts.getAndIncrement(), Runnable::run, Duration.ofSeconds(1), 10, aNow::get);
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc");
+
+        Assertions.assertEquals(Long.valueOf(100L), aCache.count(aQuery).join());
+        aNow.set(Duration.ofSeconds(2).toNanos());
+
+        final var aStale = aCache.metadata(aQuery, true);
+        Assertions.assertEquals(PaginationMetadata.Accuracy.ESTIMATED, aStale.accuracy());
+        Assertions.assertEquals(100, aStale.totalItems());
+
+        final var aRefreshed = aCache.metadata(aQuery, true);
+        Assertions.assertTrue(aRefreshed.isExact());
+        Assertions.assertEquals(101, aRefreshed.totalItems());
+    }
+
+    @Test
+    void givenAFailingCounter_whenCount_thenCompleteExceptionallyAndAllowRetry() {
+        final var aCalls = new AtomicInteger();
+        final var aCache = new PaginationCountCache(query -> {
+            if (aCalls.getAndIncrement() == 0) throw new IllegalStateException("timeout");
+            return 5L;
+        }, Runnable::run, Duration.ofMinutes(1), 10, () -> 0L);
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc");
+
+        Assertions.assertTrue(aCache.count(aQuery).isCompletedExceptionally());
+        Assertions.assertEquals(Long.valueOf(5L), aCache.count(aQuery).join());
+    }
+
+    @Test
+    void givenAFullCache_whenCountAnotherListing_thenEvictTheLeastRecentlyUsed() {
+        final var aCalls = new AtomicInteger();
+        final var aCache = new PaginationCountCache(
+                query -> { aCalls.incrementAndGet(); return 10L; }, Runnable::run, Duration.ofMinutes(1), 2, () -> 0L);
+        final var aShirts = new SearchQuery(0, 10, "shirt", "createdAt", "asc");
+        final var aShoes = new SearchQuery(0, 10, "shoes", "createdAt", "asc");
+        final var aHats = new SearchQuery(0, 10, "hats", "createdAt", "asc");
+
+        aCache.count(aShirts).join();
+        aCache.count(aShoes).join();
+        aCache.metadata(aShirts, true);
+        aCache.count(aHats).join();
+
+        Assertions.assertEquals(2, aCache.size());
+        Assertions.assertTrue(aCache.metadata(aHats, true).isExact());
+        Assertions.assertTrue(aCache.metadata(aShirts, true).isExact());
+        Assertions.assertEquals(3, aCalls.get());
+
+        Assertions.assertEquals(PaginationMetadata.Accuracy.UNKNOWN, aCache.metadata(aShoes, true).accuracy());
+        Assertions.assertEquals(4, aCalls.get());
+    }
+
+    @Test
+    void givenACountOlderThanTwiceTheTtl_whenMetadata_thenDropItAndReturnCountFreeMetadata() {
+        final var aNow = new AtomicLong();
+        final var aTasks = new ArrayList<Runnable>();
+        final var aCache = new PaginationCountCache(query -> 7L, aTasks::add, Duration.ofSeconds(1), 10, aNow::get);
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc");
+
+        aCache.count(aQuery);
+        aTasks.remove(0).run();
+        aNow.set(Duration.ofSeconds(3).toNanos());
+
+        Assertions.assertEquals(PaginationMetadata.Accuracy.UNKNOWN, aCache.metadata(aQuery, true).accuracy());
+        Assertions.assertEquals(0, aCache.size());
+    }
+
+    @Test
+    void givenTheLegacyShape_whenCreateMetadataWithoutAccuracy_thenDefaultToExactAndDeriveHasNext() {
+        final var aMetadata = new PaginationMetadata(0, 10, 3, 25, false, null);
+        final var aLastPage = new PaginationMetadata(2, 10, 3, 25, false, null);
+
+        Assertions.assertEquals(PaginationMetadata.Accuracy.EXACT, aMetadata.accuracy());
+        Assertions.assertTrue(aMetadata.hasNext());
+        Assertions.assertFalse(aLastPage.hasNext());
+    }
+
+    @Test
+    void givenRowsWithAnExtraItem_whenWithHasNext_thenTrimAndFlagNextPage() {
+        final var aPage = Pagination.withHasNext(0, 2, List.of(1, 2, 3));
+        final var aLastPage = Pagination.withHasNext(1, 2, List.of(3));
+
+        Assertions.assertEquals(List.of(1, 2), aPage.items());
+        Assertions.assertTrue(aPage.metadata().hasNext());
+        Assertions.assertEquals(List.of(3), aLastPage.items());
+        Assertions.assertFalse(aLastPage.metadata().hasNext());
+    }
+
+    @Test
+    void givenExactTotals_whenCreateMetadataWithLegacyConstructor_thenComputeHasNext() {
+        Assertions.assertTrue(new PaginationMetadata(0, 10, 2, 15).hasNext());
+        Assertions.assertFalse(new PaginationMetadata(1, 10, 2, 15).hasNext());
+        Assertions.assertTrue(new PaginationMetadata(1, 10, 2, 15).isExact());
+    }
+}
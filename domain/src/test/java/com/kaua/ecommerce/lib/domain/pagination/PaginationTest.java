@@ -5,6 +5,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 public class PaginationTest extends UnitTest {
 
@@ -28,6 +31,47 @@ public class PaginationTest extends UnitTest {
         Assertions.assertNotNull(aResultWithMap);
     }
 
+    @Test
+    void givenAPagination_whenCallMapLazy_thenApplyMapperOnlyOnAccess() {
+        final var aCalls = new AtomicInteger();
+        final var aMetadata = new PaginationMetadata(0, 10, 1, 3);
+        final var pagination = new Pagination<>(aMetadata, List.of(1, 2, 3));
+
+        final var aResult = pagination.mapLazy(it -> {
+            aCalls.incrementAndGet();
+            return it * 10;
+        });
+
+        Assertions.assertEquals(0, aCalls.get());
+        Assertions.assertEquals(List.of(10, 20, 30), aResult.items());
+        Assertions.assertEquals(aMetadata, aResult.metadata());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> aResult.items().add(40));
+    }
+
+    @Test
+    void givenALargePagination_whenCallMapParallel_thenKeepItemsOrder() {
+        final var aItems = IntStream.range(0, 10_000).boxed().toList();
+        final var pagination = new Pagination<>(new PaginationMetadata(0, 10_000, 1, 10_000), aItems);
+        final var aExecutor = Executors.newFixedThreadPool(4);
+
+        try {
+            final var aResult = pagination.mapParallel(it -> "item-" + it, aExecutor);
+
+            Assertions.assertEquals(pagination.map(it -> "item-" + it).items(), aResult.items());
+        } finally {
+            aExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void givenAFailingMapper_whenCallMapParallel_thenRethrowMapperException() {
+        final var pagination = new Pagination<>(new PaginationMetadata(0, 10, 1, 3), List.of(1, 2, 3));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> pagination.mapParallel(it -> {
+            throw new IllegalStateException("enrichment failed");
+        }, Runnable::run));
+    }
+
     private record PaginationDummy(String name) {
         public String getName() {
             return name;
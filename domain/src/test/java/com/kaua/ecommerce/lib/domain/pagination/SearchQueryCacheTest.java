@@ -0,0 +1,102 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SearchQueryCacheTest extends UnitTest {
+
+    @Test
+    void givenRepeatedQueries_whenGet_thenLoadOnceAndReportHitRatio() {
+        final var aLoads = new AtomicInteger();
+        final var aCache = SearchQueryCache.<String>create(Duration.ofMinutes(1), 10);
+
+        for (int i = 0; i < 4; i++) {
+            final var aValue = aCache.get(new SearchQuery(0, 10, i % 2 == 0 ? "Camiseta" : " camiseta ", "name", "asc"),
+                    query -> "result-" + aLoads.incrementAndGet());
+            Assertions.assertEquals("result-1", aValue);
+        }
+
+        Assertions.assertEquals(1, aLoads.get());
+        Assertions.assertEquals(3, aCache.stats().hits());
+        Assertions.assertEquals(1, aCache.stats().misses());
+        Assertions.assertEquals(0.75, aCache.stats().hitRatio());
+    }
+
+    @Test
+    void givenConcurrentMisses_whenGetAsync_thenShareASingleLoad() {
+        final var aLoads = new AtomicInteger();
+        final var aPending = new CompletableFuture<String>();
+        final var aCache = SearchQueryCache.<String>create(Duration.ofMinutes(1), 10);
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+
+        final var aFirst = aCache.getAsync(aQuery, query -> {
+            aLoads.incrementAndGet();
+            return aPending;
+        });
+        final var aSecond = aCache.getAsync(aQuery, query -> {
+            aLoads.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        aPending.complete("value");
+
+        Assertions.assertEquals(1, aLoads.get());
+        Assertions.assertEquals("value", aFirst.join());
+        Assertions.assertEquals("value", aSecond.join());
+    }
+
+    @Test
+    void givenACallerThatCancelsOrCompletesItsFuture_whenGetAsync_thenOtherCallersKeepTheLoadedValue() {
+        final var aPending = new CompletableFuture<String>();
+        final var aCache = SearchQueryCache.<String>create(Duration.ofMinutes(1), 10);
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+
+        final var aCancelled = aCache.getAsync(aQuery, query -> aPending);
+        final var aCompleted = aCache.getAsync(aQuery, query -> aPending);
+        final var aWaiting = aCache.getAsync(aQuery, query -> aPending);
+        aCancelled.cancel(true);
+        aCompleted.complete("poisoned");
+        aPending.complete("value");
+
+        Assertions.assertEquals("value", aWaiting.join());
+        Assertions.assertEquals("value", aCache.getAsync(aQuery, query -> aPending).join());
+        Assertions.assertTrue(aCancelled.isCancelled());
+    }
+
+    @Test
+    void givenAnExpiredOrEvictedEntry_whenGet_thenLoadAgain() {
+        final var aNow = new AtomicLong();
+        final var aLoads = new AtomicInteger();
+        final var aCache = new SearchQueryCache<Integer>(Duration.ofSeconds(1), 2, Duration.ZERO, aNow::get);
+        final var aQuery = new SearchQuery(0, 10, "a", "name", "asc");
+
+        aCache.get(aQuery, query -> aLoads.incrementAndGet());
+        aNow.set(Duration.ofSeconds(2).toNanos());
+        Assertions.assertEquals(Integer.valueOf(2), aCache.get(aQuery, query -> aLoads.incrementAndGet()));
+
+        aCache.get(new SearchQuery(0, 10, "b", "name", "asc"), query -> 0);
+        aCache.get(new SearchQuery(0, 10, "c", "name", "asc"), query -> 0);
+
+        Assertions.assertEquals(2, aCache.size());
+        Assertions.assertEquals(1, aCache.stats().evictions());
+        Assertions.assertEquals(Integer.valueOf(3), aCache.get(aQuery, query -> aLoads.incrementAndGet()));
+    }
+
+    @Test
+    void givenAFailingLoader_whenGet_thenRethrowAndNotCache() {
+        final var aCache = SearchQueryCache.<String>create(Duration.ofMinutes(1), 10);
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+
+        Assertions.assertThrows(IllegalStateException.class, () -> aCache.get(aQuery, query -> {
+            throw new IllegalStateException("database down");
+        }));
+
+        Assertions.assertEquals("value", aCache.get(aQuery, query -> "value"));
+        Assertions.assertEquals(0, aCache.stats().hits());
+    }
+}
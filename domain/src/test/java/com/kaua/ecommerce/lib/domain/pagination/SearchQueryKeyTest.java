@@ -0,0 +1,61 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import com.kaua.ecommerce.lib.domain.utils.Period;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class SearchQueryKeyTest extends UnitTest {
+
+    @Test
+    void givenEquivalentQueries_whenCreateKey_thenReturnEqualKeys() {
+        final var aQuery = new SearchQuery(0, 10, "  Camiseta   Azul ", " createdAt", "ASC");
+        final var aOther = new SearchQuery(0, 10, "camiseta azul", "CREATEDAT", "asc");
+
+        final var aKey = SearchQueryKey.of(aQuery);
+
+        Assertions.assertEquals(aKey, SearchQueryKey.of(aOther));
+        Assertions.assertEquals(aKey.hashCode(), SearchQueryKey.of(aOther).hashCode());
+        Assertions.assertEquals("camiseta azul", aKey.terms());
+        Assertions.assertEquals("createdat", aKey.sort());
+        Assertions.assertNotEquals(aKey, SearchQueryKey.of(aQuery.withPage(1)));
+    }
+
+    @Test
+    void givenPeriodsInTheSameBucket_whenCreateKeyWithGranularity_thenReturnEqualKeys() {
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc",
+                new Period("2024-01-01T10:00:05Z", "2024-01-31T10:00:05Z"));
+        final var aOther = new SearchQuery(0, 10, "", "createdAt", "asc",
+                new Period("2024-01-01T10:00:55Z", "2024-01-31T10:00:55Z"));
+
+        Assertions.assertEquals(
+                SearchQueryKey.of(aQuery, Duration.ofMinutes(1)),
+                SearchQueryKey.of(aOther, Duration.ofMinutes(1))
+        );
+        Assertions.assertNotEquals(SearchQueryKey.of(aQuery), SearchQueryKey.of(aOther));
+    }
+
+    @Test
+    void givenAnOpenEndedPeriod_whenCreateKeyWithGranularity_thenKeepFarInstantsAsIs() {
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc",
+                new Period(Instant.MIN, Instant.MAX));
+
+        final var aKey = SearchQueryKey.of(aQuery, Duration.ofMinutes(1));
+
+        Assertions.assertEquals(Instant.MIN, aKey.periodStart());
+        Assertions.assertEquals(Instant.MAX, aKey.periodEnd());
+    }
+
+    @Test
+    void givenAKey_whenWithoutPaging_thenDropPageAndSort() {
+        final var aKey = SearchQueryKey.of(new SearchQuery(3, 10, "Camiseta", "name", "desc"));
+
+        Assertions.assertEquals(
+                SearchQueryKey.of(new SearchQuery(0, 50, "camiseta", "createdAt", "asc")).withoutPaging(),
+                aKey.withoutPaging()
+        );
+    }
+}
@@ -43,4 +43,15 @@ public class SearchQueryTest extends UnitTest {
         Assertions.assertEquals(direction, aQuery.direction());
         Assertions.assertEquals(period, aQuery.period());
     }
+
+    @Test
+    void givenASearchQuery_whenCallWithPage_shouldReturnSameQueryOnAnotherPage() {
+        final var period = new Period("2021-01-01T00:00:00Z", "2021-01-31T23:59:59Z");
+        final var aQuery = new SearchQuery(0, 10, "terms", "createdAt", "asc", period);
+
+        final var aNextQuery = aQuery.withPage(1);
+
+        Assertions.assertEquals(1, aNextQuery.page());
+        Assertions.assertEquals(new SearchQuery(1, 10, "terms", "createdAt", "asc", period), aNextQuery);
+    }
 }
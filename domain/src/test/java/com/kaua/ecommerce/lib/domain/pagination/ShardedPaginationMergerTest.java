@@ -0,0 +1,100 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+public class ShardedPaginationMergerTest extends UnitTest {
+
+    private static final SortComparators<Integer> SORTS = SortComparators.<Integer>builder()
+            .sort("value", Comparator.naturalOrder())
+            .build();
+
+    @Test
+    void givenSortedShardPages_whenMerge_thenReturnGlobalPageAndSummedTotals() {
+        final var aRandom = new Random(3);
+        final var aShards = new ArrayList<List<Integer>>();
+        final var aAll = new ArrayList<Integer>();
+        for (int s = 0; s < 4; s++) {
+            final var aShard = IntStream.range(0, 250).map(i -> aRandom.nextInt(10_000)).sorted().boxed().toList();
+            aShards.add(aShard);
+            aAll.addAll(aShard);
+        }
+        aAll.sort(Comparator.naturalOrder());
+        final var aQuery = new SearchQuery(3, 20, "", "value", "asc");
+
+        final var aResult = ShardedPaginationMerger.merge(
+                aShards.stream().map(it -> shardPage(it, ShardedPaginationMerger.shardQuery(aQuery))).toList(),
+                aQuery,
+                SORTS
+        );
+
+        Assertions.assertEquals(aAll.subList(60, 80), aResult.items());
+        Assertions.assertEquals(1_000, aResult.metadata().totalItems());
+        Assertions.assertEquals(50, aResult.metadata().totalPages());
+        Assertions.assertTrue(aResult.metadata().isExact());
+    }
+
+    @Test
+    void givenASlowAndAFailingShard_whenGather_thenReturnPartialResultWithinDeadline() {
+        final var aQuery = new SearchQuery(0, 3, "", "value", "asc");
+        final var aShardQuery = ShardedPaginationMerger.shardQuery(aQuery);
+        final List<Supplier<? extends CompletionStage<Pagination<Integer>>>> aShards = List.of(
+                () -> CompletableFuture.completedFuture(shardPage(List.of(1, 4, 7), aShardQuery)),
+                () -> new CompletableFuture<>(),
+                () -> CompletableFuture.failedFuture(new IllegalStateException("shard down")),
+                () -> CompletableFuture.completedFuture(shardPage(List.of(2, 3, 9), aShardQuery))
+        );
+
+        final var aStart = System.nanoTime();
+        final var aResult = ShardedPaginationMerger.gather(aShards, aQuery, SORTS, Duration.ofMillis(100)).join();
+        final var aElapsed = Duration.ofNanos(System.nanoTime() - aStart);
+
+        Assertions.assertTrue(aElapsed.toMillis() < 1_000, aElapsed.toString());
+        Assertions.assertTrue(aResult.isPartial());
+        Assertions.assertEquals(List.of(1, 2), aResult.missingShards());
+        Assertions.assertEquals(List.of(1, 2, 3), aResult.pagination().items());
+        Assertions.assertEquals(PaginationMetadata.Accuracy.ESTIMATED, aResult.pagination().metadata().accuracy());
+        Assertions.assertTrue(aResult.pagination().metadata().hasNext());
+    }
+
+    @Test
+    void givenANegativePageOrPerPage_whenShardQueryOrMerge_thenThrowValidationException() {
+        final var aNegativePage = new SearchQuery(-1, 10, "", "value", "asc");
+        final var aZeroPerPage = new SearchQuery(0, 0, "", "value", "asc");
+
+        final var aPageException = Assertions.assertThrows(
+                ValidationException.class,
+                () -> ShardedPaginationMerger.shardQuery(aNegativePage)
+        );
+        final var aPerPageException = Assertions.assertThrows(
+                ValidationException.class,
+                () -> ShardedPaginationMerger.merge(List.of(), aZeroPerPage, SORTS)
+        );
+
+        Assertions.assertEquals("page", aPageException.getErrors().get(0).property());
+        Assertions.assertEquals("perPage", aPerPageException.getErrors().get(0).property());
+        Assertions.assertThrows(
+                ValidationException.class,
+                () -> ShardedPaginationMerger.gather(List.of(), aNegativePage, SORTS, Duration.ofMillis(100))
+        );
+    }
+
+    private static Pagination<Integer> shardPage(final List<Integer> aSorted, final SearchQuery aShardQuery) {
+        return new Pagination<>(
+                PaginationMetadata.exact(0, aShardQuery.perPage(), aSorted.size()),
+                aSorted.subList(0, Math.min(aSorted.size(), aShardQuery.perPage()))
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class SortComparatorsTest extends UnitTest {
+
+    private static final SortComparators<String> SORTS = SortComparators.<String>builder()
+            .sort("length", Comparator.comparingInt(String::length))
+            .build();
+
+    @Test
+    void givenAKnownSort_whenResolve_thenReturnComparatorInDirection() {
+        final var aItems = new ArrayList<>(List.of("ccc", "a", "bb"));
+
+        aItems.sort(SORTS.resolve(new SearchQuery(0, 10, "", "LENGTH", "DESC")).orElseThrow());
+
+        Assertions.assertEquals(List.of("ccc", "bb", "a"), aItems);
+    }
+
+    @Test
+    void givenAnUnknownSort_whenResolve_thenReturnEmpty() {
+        Assertions.assertTrue(SORTS.resolve("name", "asc").isEmpty());
+        Assertions.assertTrue(SORTS.resolve(null, "asc").isEmpty());
+    }
+}
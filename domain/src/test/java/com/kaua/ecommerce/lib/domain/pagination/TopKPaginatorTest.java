@@ -0,0 +1,96 @@
+package com.kaua.ecommerce.lib.domain.pagination;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class TopKPaginatorTest extends UnitTest {
+
+    private static final SortComparators<Item> SORTS = SortComparators.<Item>builder()
+            .sort("price", Comparator.comparingInt(Item::price))
+            .build();
+
+    @Test
+    void givenRandomItems_whenPaginate_thenMatchAStableFullSort() {
+        final var aItems = randomItems(10_000);
+        final var aSorted = new ArrayList<>(aItems);
+        aSorted.sort(Comparator.comparingInt(Item::price).reversed());
+
+        for (final int aPage : new int[]{0, 1, 7, 99, 100}) {
+            final var aQuery = new SearchQuery(aPage, 100, "", "price", "desc");
+
+            final var aResult = TopKPaginator.paginate(aItems, aQuery, SORTS);
+
+            final var aFrom = Math.min(aSorted.size(), aPage * 100);
+            Assertions.assertEquals(aSorted.subList(aFrom, Math.min(aSorted.size(), aFrom + 100)), aResult.items());
+            Assertions.assertEquals(10_000, aResult.metadata().totalItems());
+            Assertions.assertEquals(100, aResult.metadata().totalPages());
+        }
+    }
+
+    @Test
+    void givenRandomItems_whenPaginateParallel_thenMatchSequentialResult() {
+        final var aItems = randomItems(100_000);
+        final var aPool = new ForkJoinPool(4);
+
+        try {
+            for (final int aPage : new int[]{0, 3, 42}) {
+                final var aQuery = new SearchQuery(aPage, 50, "", "price", "asc");
+
+                Assertions.assertEquals(
+                        TopKPaginator.paginate(aItems, aQuery, SORTS),
+                        TopKPaginator.paginateParallel(aItems, aQuery, SORTS, aPool)
+                );
+            }
+        } finally {
+            aPool.shutdown();
+        }
+    }
+
+    @Test
+    void givenAnUnknownSort_whenPaginate_thenKeepListOrder() {
+        final var aItems = List.of(new Item(0, 3), new Item(1, 1), new Item(2, 2));
+
+        final var aResult = TopKPaginator.paginate(aItems, new SearchQuery(1, 2, "", "name", "asc"), SORTS);
+
+        Assertions.assertEquals(List.of(aItems.get(2)), aResult.items());
+        Assertions.assertEquals(2, aResult.metadata().totalPages());
+    }
+
+    @Test
+    void givenANegativePageOrPerPage_whenPaginate_thenThrowValidationException() {
+        final var aItems = randomItems(10);
+
+        final var aPageException = Assertions.assertThrows(
+                ValidationException.class,
+                () -> TopKPaginator.paginate(aItems, new SearchQuery(-1, 10, "", "price", "asc"), SORTS)
+        );
+        final var aPerPageException = Assertions.assertThrows(
+                ValidationException.class,
+                () -> TopKPaginator.paginate(aItems, new SearchQuery(0, 0, "", "price", "asc"), SORTS)
+        );
+
+        Assertions.assertEquals("page", aPageException.getErrors().get(0).property());
+        Assertions.assertEquals("perPage", aPerPageException.getErrors().get(0).property());
+    }
+
+    private static List<Item> randomItems(final int aSize) {
+        final var aRandom = new Random(7);
+        final var aItems = new ArrayList<Item>(aSize);
+        for (int i = 0; i < aSize; i++) {
+            // few distinct prices so ties are common
+            aItems.add(new Item(i, aRandom.nextInt(500)));
+        }
+        return aItems;
+    }
+
+    private record Item(int id, int price) {
+    }
+}
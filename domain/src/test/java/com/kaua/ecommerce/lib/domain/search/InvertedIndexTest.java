@@ -0,0 +1,99 @@
+package com.kaua.ecommerce.lib.domain.search;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import com.kaua.ecommerce.lib.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.lib.domain.utils.Period;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+public class InvertedIndexTest extends UnitTest {
+
+    private static final List<Product> CATALOG = List.of(
+            new Product("Camiseta Básica Azul", "Algodão", 50, Instant.parse("2024-01-10T00:00:00Z")),
+            new Product("Camiseta Polo", "Algodão pima azul", 120, Instant.parse("2024-02-10T00:00:00Z")),
+            new Product("Calça Jeans", "Azul escuro", 200, Instant.parse("2024-03-10T00:00:00Z")),
+            new Product("Tênis Corrida", "Amortecimento", 400, Instant.parse("2024-04-10T00:00:00Z"))
+    );
+
+    private static final InvertedIndex<Product> INDEX = InvertedIndex.<Product>builder()
+            .text(Product::name)
+            .text(Product::description)
+            .sort("name", Comparator.comparing(Product::name))
+            .sort("price", Comparator.comparingInt(Product::price))
+            .period(Product::createdAt)
+            .build(CATALOG);
+
+    @Test
+    void givenAText_whenTokenize_thenFoldCaseAndAccents() {
+        Assertions.assertEquals(Set.of("calca", "acao", "tenis", "no", "42"), Tokenizer.tokenize("Calça-AÇÃO, Tênis nº 42"));
+    }
+
+    @Test
+    void givenTerms_whenSearchAll_thenReturnItemsWithEveryToken() {
+        final var aResult = INDEX.search(new SearchQuery(0, 10, "camiseta AZUL", "price", "desc"));
+
+        Assertions.assertEquals(List.of(CATALOG.get(1), CATALOG.get(0)), aResult.items());
+        Assertions.assertEquals(2, aResult.metadata().totalItems());
+    }
+
+    @Test
+    void givenTerms_whenSearchAny_thenReturnItemsWithSomeToken() {
+        final var aResult = INDEX.search(new SearchQuery(0, 10, "tenis calca inexistente", "name", "asc"), MatchMode.ANY);
+
+        Assertions.assertEquals(List.of(CATALOG.get(2), CATALOG.get(3)), aResult.items());
+    }
+
+    @Test
+    void givenAnUnknownToken_whenSearchAll_thenReturnEmptyPage() {
+        final var aResult = INDEX.search(new SearchQuery(0, 10, "camiseta vermelha", "name", "asc"));
+
+        Assertions.assertTrue(aResult.items().isEmpty());
+        Assertions.assertEquals(0, aResult.metadata().totalItems());
+    }
+
+    @Test
+    void givenBlankTermsAndAPeriod_whenSearch_thenFilterByPeriodAndPaginate() {
+        final var aQuery = new SearchQuery(1, 1, " ", "price", "asc",
+                new Period("2024-02-01T00:00:00Z", "2024-04-01T00:00:00Z"));
+
+        final var aResult = INDEX.search(aQuery);
+
+        Assertions.assertEquals(List.of(CATALOG.get(2)), aResult.items());
+        Assertions.assertEquals(2, aResult.metadata().totalItems());
+        Assertions.assertEquals(2, aResult.metadata().totalPages());
+    }
+
+    @Test
+    void givenARandomCatalog_whenSearch_thenMatchALinearScan() {
+        final var aRandom = new Random(42);
+        final var aWords = List.of("azul", "verde", "camiseta", "calca", "tenis", "bone", "meia", "polo");
+        final var aCatalog = new ArrayList<Product>();
+        for (int i = 0; i < 5_000; i++) {
+            aCatalog.add(new Product(
+                    aWords.get(aRandom.nextInt(aWords.size())) + " " + aWords.get(aRandom.nextInt(aWords.size())),
+                    "",
+                    i,
+                    Instant.EPOCH
+            ));
+        }
+        final var aIndex = InvertedIndex.<Product>builder().text(Product::name).build(aCatalog);
+
+        final var aResult = aIndex.search(new SearchQuery(0, 10_000, "Azul Polo", "", ""));
+
+        final var aExpected = aCatalog.stream()
+                .filter(it -> Tokenizer.tokenize(it.name().toLowerCase(Locale.ROOT)).containsAll(Set.of("azul", "polo")))
+                .toList();
+        Assertions.assertEquals(aExpected, aResult.items());
+    }
+
+    private record Product(String name, String description, int price, Instant createdAt) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.kaua.ecommerce.lib.domain.utils;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+class FormatUtilsTest extends UnitTest {
+
+    private static final String FUZZ_ALPHABET = "aZz09@.-+_%#Ab ";
+
+    @Test
+    void givenEmailSamples_whenCallIsValidEmail_thenShouldMatchRegex() {
+        final var aSamples = List.of(
+                "kaua@test.com", "kaua.pereira+promo@mail.example.com.br", "a@b.cd", "a@b.c", "a@b", "@b.com",
+                "a@.com", "a@b..com", "a@b.com.", "a@b.c0m", "a@-b.com", "a@b-.co", "a@@b.com", "a b@c.com",
+                "", "a@b.com\n", "a%_-@1-2.xyz", "a@b.co1.com"
+        );
+
+        assertSameAsRegex(aSamples, FormatUtils::isValidEmail, FormatUtils.EMAIL_PATTERN);
+        Assertions.assertTrue(FormatUtils.isValidEmail("kaua@test.com"));
+        Assertions.assertFalse(FormatUtils.isValidEmail(null));
+    }
+
+    @Test
+    void givenPhoneSamples_whenCallIsValidPhone_thenShouldMatchRegex() {
+        final var aSamples = List.of(
+                "11912345678", "+5511912345678", "+551191234567890", "123456789", "1234567890", "1234567890123",
+                "12345678901234", "+", "", "++11912345678", "1191234567a", "+1191234567"
+        );
+
+        assertSameAsRegex(aSamples, FormatUtils::isValidPhone, FormatUtils.PHONE_PATTERN);
+        Assertions.assertTrue(FormatUtils.isValidPhone("+5511912345678"));
+        Assertions.assertFalse(FormatUtils.isValidPhone(null));
+    }
+
+    @Test
+    void givenCepSamples_whenCallIsValidCep_thenShouldMatchRegex() {
+        final var aSamples = List.of(
+                "01310100", "01310-100", "0131-0100", "0131010", "013101000", "01310--100", "a1310100", "01310-10a", ""
+        );
+
+        assertSameAsRegex(aSamples, FormatUtils::isValidCep, FormatUtils.CEP_PATTERN);
+        Assertions.assertTrue(FormatUtils.isValidCep("01310-100"));
+        Assertions.assertFalse(FormatUtils.isValidCep(null));
+    }
+
+    @Test
+    void givenSkuAndSlugSamples_whenCallIsValidSkuAndSlug_thenShouldMatchRegex() {
+        final var aSamples = List.of(
+                "SKU-123", "SKU", "SKU--123", "-SKU", "SKU-", "sku-123", "Sku-1", "A-B-C-1", "", "-", "a-b-c",
+                "camiseta-azul-p", "camiseta_azul"
+        );
+
+        assertSameAsRegex(aSamples, FormatUtils::isValidSku, FormatUtils.SKU_PATTERN);
+        assertSameAsRegex(aSamples, FormatUtils::isValidSlug, FormatUtils.SLUG_PATTERN);
+        Assertions.assertTrue(FormatUtils.isValidSku("SKU-123"));
+        Assertions.assertTrue(FormatUtils.isValidSlug("camiseta-azul-p"));
+        Assertions.assertFalse(FormatUtils.isValidSku(null));
+        Assertions.assertFalse(FormatUtils.isValidSlug(null));
+    }
+
+    @Test
+    void givenRandomStrings_whenCallValidators_thenShouldAlwaysMatchRegex() {
+        final var aRandom = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            final var aValue = randomString(aRandom);
+
+            Assertions.assertEquals(aValue.matches(FormatUtils.EMAIL_PATTERN), FormatUtils.isValidEmail(aValue), aValue);
+            Assertions.assertEquals(aValue.matches(FormatUtils.PHONE_PATTERN), FormatUtils.isValidPhone(aValue), aValue);
+            Assertions.assertEquals(aValue.matches(FormatUtils.CEP_PATTERN), FormatUtils.isValidCep(aValue), aValue);
+            Assertions.assertEquals(aValue.matches(FormatUtils.SKU_PATTERN), FormatUtils.isValidSku(aValue), aValue);
+            Assertions.assertEquals(aValue.matches(FormatUtils.SLUG_PATTERN), FormatUtils.isValidSlug(aValue), aValue);
+        }
+    }
+
+    private static void assertSameAsRegex(final List<String> aSamples, final Predicate<String> aValidator, final String aRegex) {
+        for (final var aSample : aSamples) {
+            Assertions.assertEquals(aSample.matches(aRegex), aValidator.test(aSample), aSample);
+        }
+    }
+
+    private static String randomString(final Random aRandom) {
+        final var aLength = aRandom.nextInt(16);
+        final var aBuilder = new StringBuilder(aLength);
+        for (int i = 0; i < aLength; i++) {
+            aBuilder.append(FUZZ_ALPHABET.charAt(aRandom.nextInt(FUZZ_ALPHABET.length())));
+        }
+        return aBuilder.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.kaua.ecommerce.lib.domain.utils;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class PeriodIndexTest extends UnitTest {
+
+    @Test
+    void givenPromotions_whenActiveAt_thenReturnPromotionsContainingTheInstant() {
+        final var aBlackFriday = new Promotion("black-friday", new Period("2024-11-29T00:00:00Z", "2024-11-30T00:00:00Z"));
+        final var aNovember = new Promotion("november", new Period("2024-11-01T00:00:00Z", "2024-11-30T23:59:59Z"));
+        final var aChristmas = new Promotion("christmas", new Period("2024-12-20T00:00:00Z", "2024-12-25T23:59:59Z"));
+        final var aIndex = PeriodIndex.build(List.of(aChristmas, aBlackFriday, aNovember), Promotion::validity);
+
+        Assertions.assertEquals(List.of(aNovember, aBlackFriday), aIndex.activeAt(Instant.parse("2024-11-29T12:00:00Z")));
+        Assertions.assertEquals(List.of(aNovember, aBlackFriday), aIndex.activeAt(Instant.parse("2024-11-30T00:00:00Z")));
+        Assertions.assertTrue(aIndex.activeAt(Instant.parse("2024-12-10T00:00:00Z")).isEmpty());
+        Assertions.assertFalse(aIndex.isActiveAt(Instant.parse("2025-01-01T00:00:00Z")));
+        Assertions.assertEquals(
+                List.of(aNovember, aBlackFriday, aChristmas),
+                aIndex.overlapping(new Period("2024-11-29T06:00:00Z", "2024-12-21T00:00:00Z"))
+        );
+    }
+
+    @Test
+    void givenRandomPeriods_whenQuery_thenMatchALinearScan() {
+        final var aRandom = new Random(11);
+        final var aBase = Instant.parse("2024-01-01T00:00:00Z");
+        final var aPromotions = new ArrayList<Promotion>();
+        for (int i = 0; i < 2_000; i++) {
+            final var aStart = aBase.plusSeconds(aRandom.nextInt(1_000_000));
+            aPromotions.add(new Promotion("p" + i, new Period(aStart, aStart.plusSeconds(1 + aRandom.nextInt(50_000)))));
+        }
+        final var aIndex = PeriodIndex.build(aPromotions, Promotion::validity);
+
+        for (int i = 0; i < 200; i++) {
+            final var aFrom = aBase.plusSeconds(aRandom.nextInt(1_000_000));
+            final var aRange = new Period(aFrom, aFrom.plusSeconds(aRandom.nextInt(10_000) + 1));
+
+            final var aExpected = aPromotions.stream()
+                    .filter(it -> !it.validity().start().isAfter(aRange.end()) && !it.validity().end().isBefore(aRange.start()))
+                    .map(Promotion::name)
+                    .sorted()
+                    .toList();
+            final var aActual = aIndex.overlapping(aRange).stream().map(Promotion::name).sorted().toList();
+
+            Assertions.assertEquals(aExpected, aActual);
+        }
+        Assertions.assertEquals(2_000, aIndex.size());
+    }
+
+    @Test
+    void givenAnInstant_whenToMicros_thenReturnEpochMicros() {
+        Assertions.assertEquals(1_500_001L, PeriodIndex.toMicros(Instant.ofEpochSecond(1, 500_001_999)));
+        Assertions.assertEquals(-999_999L, PeriodIndex.toMicros(Instant.ofEpochSecond(-1, 1_000)));
+    }
+
+    @Test
+    void givenOpenEndedPeriods_whenQuery_thenClampToTheMicrosRange() {
+        final var aForever = new Promotion("forever", new Period(Instant.parse("2024-01-01T00:00:00Z"), Instant.MAX));
+        final var aSince = new Promotion("since", new Period(Instant.MIN, Instant.parse("2024-01-01T00:00:00Z")));
+        final var aIndex = PeriodIndex.build(List.of(aForever, aSince), Promotion::validity);
+
+        Assertions.assertEquals(List.of(aForever), aIndex.activeAt(Instant.parse("9999-12-31T23:59:59Z")));
+        Assertions.assertEquals(List.of(aForever), aIndex.activeAt(Instant.MAX));
+        Assertions.assertEquals(List.of(aSince), aIndex.activeAt(Instant.parse("0001-01-01T00:00:00Z")));
+        Assertions.assertEquals(List.of(aSince, aForever), aIndex.activeAt(Instant.parse("2024-01-01T00:00:00Z")));
+        Assertions.assertEquals(Long.valueOf(Long.MAX_VALUE), Long.valueOf(PeriodIndex.toMicros(Instant.MAX)));
+        Assertions.assertEquals(Long.valueOf(Long.MIN_VALUE), Long.valueOf(PeriodIndex.toMicros(Instant.MIN)));
+    }
+
+    private record Promotion(String name, Period validity) {
+    }
+}
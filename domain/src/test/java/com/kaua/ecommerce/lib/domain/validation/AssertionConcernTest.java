@@ -2,12 +2,14 @@ package com.kaua.ecommerce.lib.domain.validation;
 
 import com.kaua.ecommerce.lib.domain.UnitTest;
 import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import com.kaua.ecommerce.lib.domain.validation.handler.NotificationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 class AssertionConcernTest extends UnitTest {
 
@@ -147,6 +149,97 @@ class AssertionConcernTest extends UnitTest {
         Assertions.assertThrows(ValidationException.class, () -> new Items(Set.of("item1", "item2"), null));
     }
 
+    @Test
+    void givenAValidSku_whenCreateProductWithCompiledPattern_shouldNotThrowException() {
+        Assertions.assertDoesNotThrow(() -> new Product("SKU-123"));
+    }
+
+    @Test
+    void givenAnInvalidSku_whenCreateProductWithCompiledPattern_shouldThrowException() {
+        Assertions.assertThrows(ValidationException.class, () -> new Product("sku 123"));
+    }
+
+    @Test
+    void givenInvalidValues_whenValidateWithHandler_shouldAccumulateAllErrors() {
+        final var aHandler = NotificationHandler.create();
+        final var aConcern = new AssertionConcern() {};
+
+        aConcern.assertArgumentNotNull(null, "name", "should not be null", aHandler);
+        aConcern.assertArgumentNotEmpty("", "email", "should not be empty", aHandler);
+        aConcern.assertArgumentLength("123", 11, "cpf", "should have 11 characters", aHandler);
+        aConcern.assertArgumentMaxLength("password", 3, "password", "should not exceed 3 characters", aHandler);
+        aConcern.assertArgumentMinLength("12", 10, "phonenumber", "should not be less than 10 characters", aHandler);
+        final var aActive = aConcern.assertConditionTrue(false, "active", "should be true", aHandler);
+        final var aAge = aConcern.assertArgumentGreaterThan(18, 18, "age", "should be greater than 18", aHandler);
+        final var aHeight = aConcern.assertArgumentGreaterOrEquals(149, 150, "height", "should be greater or equals to 150", aHandler);
+        final var aAddress = aConcern.assertArgumentPattern("address!", "^[a-zA-Z0-9 ]*$", "address", "should have only letters, numbers and spaces", aHandler);
+        aConcern.assertArgumentNotEmpty(Set.of(), "items", "should not be empty", aHandler);
+        aConcern.assertArgumentNotEmpty(List.of(), "skus", "should not be empty", aHandler);
+
+        Assertions.assertFalse(aActive);
+        Assertions.assertFalse(aAge);
+        Assertions.assertFalse(aHeight);
+        Assertions.assertFalse(aAddress);
+        Assertions.assertEquals(11, aHandler.getErrors().size());
+        Assertions.assertEquals("name", aHandler.firstError().property());
+    }
+
+    @Test
+    void givenValidValues_whenValidateWithHandler_shouldReturnValuesWithoutErrors() {
+        final var aHandler = NotificationHandler.create();
+        final var aConcern = new AssertionConcern() {};
+
+        Assertions.assertEquals("name", aConcern.assertArgumentNotNull("name", "name", "should not be null", aHandler));
+        Assertions.assertEquals("email", aConcern.assertArgumentNotEmpty("email", "email", "should not be empty", aHandler));
+        Assertions.assertEquals("12345678901", aConcern.assertArgumentLength("12345678901", 11, "cpf", "should have 11 characters", aHandler));
+        Assertions.assertNull(aConcern.assertArgumentMaxLength(null, 20, "password", "should not exceed 20 characters", aHandler));
+        Assertions.assertNull(aConcern.assertArgumentMinLength(null, 10, "phonenumber", "should not be less than 10 characters", aHandler));
+        Assertions.assertTrue(aConcern.assertConditionTrue(true, "active", "should be true", aHandler));
+        Assertions.assertTrue(aConcern.assertArgumentGreaterThan(19, 18, "age", "should be greater than 18", aHandler));
+        Assertions.assertTrue(aConcern.assertArgumentGreaterOrEquals(150, 150, "height", "should be greater or equals to 150", aHandler));
+        Assertions.assertTrue(aConcern.assertArgumentPattern("address", "^[a-zA-Z0-9 ]*$", "address", "should have only letters, numbers and spaces", aHandler));
+        Assertions.assertEquals(Set.of("item"), aConcern.assertArgumentNotEmpty(Set.of("item"), "items", "should not be empty", aHandler));
+        Assertions.assertEquals(List.of("sku"), aConcern.assertArgumentNotEmpty(List.of("sku"), "skus", "should not be empty", aHandler));
+        Assertions.assertFalse(aHandler.hasError());
+    }
+
+    @Test
+    void givenCommonFormats_whenCallFormatAssertions_shouldValidateWithoutRegex() {
+        final var aConcern = new AssertionConcern() {};
+
+        Assertions.assertDoesNotThrow(() -> aConcern.assertArgumentEmail("kaua@test.com", "email", "should be a valid email"));
+        Assertions.assertDoesNotThrow(() -> aConcern.assertArgumentPhone("+5511912345678", "phone", "should be a valid phone"));
+        Assertions.assertDoesNotThrow(() -> aConcern.assertArgumentCep("01310-100", "cep", "should be a valid cep"));
+        Assertions.assertDoesNotThrow(() -> aConcern.assertArgumentSku("SKU-123", "sku", "should be a valid sku"));
+        Assertions.assertDoesNotThrow(() -> aConcern.assertArgumentSlug("camiseta-azul", "slug", "should be a valid slug"));
+        Assertions.assertDoesNotThrow(() -> aConcern.assertArgumentEmail(null, "email", "should be a valid email"));
+
+        Assertions.assertThrows(ValidationException.class, () -> aConcern.assertArgumentEmail("kaua@test", "email", "should be a valid email"));
+        Assertions.assertThrows(ValidationException.class, () -> aConcern.assertArgumentPhone("123", "phone", "should be a valid phone"));
+        Assertions.assertThrows(ValidationException.class, () -> aConcern.assertArgumentCep("0131-0100", "cep", "should be a valid cep"));
+        Assertions.assertThrows(ValidationException.class, () -> aConcern.assertArgumentSku("sku 123", "sku", "should be a valid sku"));
+        Assertions.assertThrows(ValidationException.class, () -> aConcern.assertArgumentSlug("Camiseta", "slug", "should be a valid slug"));
+    }
+
+    @Test
+    void givenCommonFormats_whenCallFormatAssertionsWithHandler_shouldAccumulateErrors() {
+        final var aHandler = NotificationHandler.create();
+        final var aConcern = new AssertionConcern() {};
+
+        Assertions.assertFalse(aConcern.assertArgumentEmail("kaua@test", "email", "should be a valid email", aHandler));
+        Assertions.assertFalse(aConcern.assertArgumentPhone("123", "phone", "should be a valid phone", aHandler));
+        Assertions.assertFalse(aConcern.assertArgumentCep("0131-0100", "cep", "should be a valid cep", aHandler));
+        Assertions.assertFalse(aConcern.assertArgumentSku("sku 123", "sku", "should be a valid sku", aHandler));
+        Assertions.assertFalse(aConcern.assertArgumentSlug("Camiseta", "slug", "should be a valid slug", aHandler));
+        Assertions.assertTrue(aConcern.assertArgumentEmail("kaua@test.com", "email", "should be a valid email", aHandler));
+        Assertions.assertTrue(aConcern.assertArgumentPhone(null, "phone", "should be a valid phone", aHandler));
+        Assertions.assertTrue(aConcern.assertArgumentCep("01310100", "cep", "should be a valid cep", aHandler));
+        Assertions.assertTrue(aConcern.assertArgumentSku("SKU", "sku", "should be a valid sku", aHandler));
+        Assertions.assertTrue(aConcern.assertArgumentSlug("camiseta", "slug", "should be a valid slug", aHandler));
+
+        Assertions.assertEquals(5, aHandler.getErrors().size());
+    }
+
     private record Person(
             String name,
             String email,
@@ -180,4 +273,12 @@ class AssertionConcernTest extends UnitTest {
             this.assertArgumentNotEmpty(skus, "skus", "should not be empty");
         }
     }
+
+    private record Product(String sku) implements AssertionConcern {
+        private static final Pattern SKU_PATTERN = Pattern.compile("^[A-Z0-9-]+$");
+
+        public Product {
+            this.assertArgumentPattern(sku, SKU_PATTERN, "sku", "should have only uppercase letters, numbers and hyphens");
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package com.kaua.ecommerce.lib.domain.validation;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+class ParallelValidatorTest extends UnitTest {
+
+    @Test
+    void givenALargeListWithInvalidItems_whenCallValidate_thenShouldReturnErrorsInOrderWithRowIndex() {
+        final var aItems = IntStream.range(0, 10_000)
+                .mapToObj(i -> new Price("SKU-" + i, i % 1000 == 0 ? -1 : i))
+                .toList();
+
+        final var aPool = new ForkJoinPool(4);
+        try {
+            final var aHandler = ParallelValidator.validate(aItems, PriceValidator::new, aPool);
+
+            Assertions.assertEquals(10, aHandler.getErrors().size());
+            Assertions.assertEquals("[0].amount", aHandler.getErrors().get(0).property());
+            Assertions.assertEquals("[1000].amount", aHandler.getErrors().get(1).property());
+            Assertions.assertEquals("[9000].amount", aHandler.getErrors().get(9).property());
+            Assertions.assertEquals("should not be negative", aHandler.firstError().message());
+        } finally {
+            aPool.shutdown();
+        }
+    }
+
+    @Test
+    void givenAListWithThrowingValidations_whenCallValidateEach_thenShouldCollectErrorsWithRowIndex() {
+        final var aItems = List.of("a", "", "c", "");
+
+        final var aHandler = ParallelValidator.validateEach(aItems, item -> () -> {
+            if (item.isEmpty()) {
+                throw ValidationException.with(new Error("name", "should not be empty"));
+            }
+            return item;
+        });
+
+        Assertions.assertEquals(2, aHandler.getErrors().size());
+        Assertions.assertEquals("[1].name", aHandler.getErrors().get(0).property());
+        Assertions.assertEquals("[3].name", aHandler.getErrors().get(1).property());
+    }
+
+    @Test
+    void givenAnEmptyList_whenCallValidate_thenShouldReturnHandlerWithoutErrors() {
+        final var aHandler = ParallelValidator.validate(List.<Price>of(), PriceValidator::new);
+
+        Assertions.assertFalse(aHandler.hasError());
+    }
+
+    @Test
+    void givenAnErrorWithoutProperty_whenCallValidateEach_thenShouldUseOnlyRowIndex() {
+        final var aHandler = ParallelValidator.validateEach(List.of("a"), item -> () -> {
+            throw new IllegalStateException("unexpected");
+        });
+
+        Assertions.assertEquals("[0]", aHandler.firstError().property());
+        Assertions.assertEquals("unexpected", aHandler.firstError().message());
+    }
+
+    private record Price(String sku, long amount) {
+    }
+
+    private static class PriceValidator extends Validator {
+
+        private final Price price;
+
+        private PriceValidator(final Price price, final ValidationHandler handler) {
+            super(handler);
+            this.price = price;
+        }
+
+        @Override
+        public void validate() {
+            if (price.amount() < 0) {
+                validationHandler().append(new Error("amount", "should not be negative"));
+            }
+        }
+    }
+}
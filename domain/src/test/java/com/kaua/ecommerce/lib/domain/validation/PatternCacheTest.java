@@ -0,0 +1,44 @@
+package com.kaua.ecommerce.lib.domain.validation;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PatternCacheTest extends UnitTest {
+
+    @BeforeEach
+    void setUp() {
+        PatternCache.clear();
+    }
+
+    @Test
+    void givenASamePattern_whenCallGetTwice_thenShouldCompileOnlyOnce() {
+        final var aFirst = PatternCache.get("^[a-z]+$");
+        final var aSecond = PatternCache.get("^[a-z]+$");
+
+        Assertions.assertSame(aFirst, aSecond);
+        Assertions.assertEquals(1, PatternCache.misses());
+        Assertions.assertEquals(1, PatternCache.size());
+    }
+
+    @Test
+    void givenMorePatternsThanMaxSize_whenCallGet_thenShouldKeepCacheBounded() {
+        for (int i = 0; i < PatternCache.MAX_SIZE * 2; i++) {
+            PatternCache.get("^a{" + i + "}$");
+        }
+
+        Assertions.assertEquals(PatternCache.MAX_SIZE * 2L, PatternCache.misses());
+        Assertions.assertTrue(PatternCache.size() <= PatternCache.MAX_SIZE);
+    }
+
+    @Test
+    void givenAStringPattern_whenCallAssertArgumentPattern_thenShouldUseCache() {
+        final AssertionConcern aConcern = new AssertionConcern() {};
+
+        aConcern.assertArgumentPattern("abc", "^[a-z]+$", "name", "should have only letters");
+        aConcern.assertArgumentPattern("def", "^[a-z]+$", "name", "should have only letters");
+
+        Assertions.assertEquals(1, PatternCache.misses());
+    }
+}
@@ -0,0 +1,114 @@
+package com.kaua.ecommerce.lib.domain.validation.handler;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import com.kaua.ecommerce.lib.domain.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class AsyncValidationHandlerTest extends UnitTest {
+
+    @Test
+    void givenThreeRemoteChecks_whenAwait_thenShouldRunConcurrentlyAndMergeErrors() {
+        final var aExecutor = Executors.newFixedThreadPool(3);
+        try {
+            final var aHandler = AsyncValidationHandler.create();
+            aHandler.append(new Error("name", "should not be empty"));
+
+            final var aStart = System.nanoTime();
+            aHandler.validateAsync(() -> CompletableFuture.supplyAsync(() -> sleepAndReturn("email"), aExecutor));
+            aHandler.validateAsync(() -> CompletableFuture.supplyAsync(() -> {
+                sleepAndReturn("cpf");
+                throw ValidationException.with(new Error("cpf", "should not be blacklisted"));
+            }, aExecutor));
+            aHandler.validateAsync(() -> CompletableFuture.supplyAsync(() -> {
+                sleepAndReturn("coupon");
+                throw new IllegalStateException("coupon service unavailable");
+            }, aExecutor));
+
+            Assertions.assertTrue(aHandler.hasPending());
+            aHandler.await(Duration.ofSeconds(5));
+            final var aElapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - aStart);
+
+            Assertions.assertFalse(aHandler.hasPending());
+            Assertions.assertTrue(aElapsed < 280, "took " + aElapsed + " ms");
+            Assertions.assertEquals(3, aHandler.getErrors().size());
+            Assertions.assertEquals("name", aHandler.getErrors().get(0).property());
+            Assertions.assertEquals("cpf", aHandler.getErrors().get(1).property());
+            Assertions.assertEquals("coupon service unavailable", aHandler.getErrors().get(2).message());
+        } finally {
+            aExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenASlowCheck_whenAwaitWithDeadline_thenShouldCancelAndReportDeadlineError() {
+        final var aHandler = AsyncValidationHandler.create(NotificationHandler.create());
+        final var aNeverCompletes = new CompletableFuture<String>();
+
+        final var aFuture = aHandler.validateAsync("email", () -> aNeverCompletes);
+        aHandler.validateAsync(() -> CompletableFuture.completedFuture("ok"));
+        aHandler.await(Duration.ofMillis(20));
+
+        Assertions.assertTrue(aFuture.isCancelled());
+        Assertions.assertEquals(1, aHandler.getErrors().size());
+        Assertions.assertEquals("email", aHandler.firstError().property());
+        Assertions.assertEquals(
+                AsyncValidationHandler.DEADLINE_EXCEEDED_MESSAGE.formatted(20),
+                aHandler.firstError().message()
+        );
+    }
+
+    @Test
+    void givenAPropertyAndFailingChecks_whenAwait_thenShouldReportErrorsOnTheProperty() {
+        final var aHandler = AsyncValidationHandler.create();
+
+        aHandler.validateAsync("coupon", () -> CompletableFuture.failedFuture(
+                new IllegalStateException("coupon service unavailable")
+        ));
+        aHandler.validateAsync("email", () -> CompletableFuture.failedFuture(
+                ValidationException.with(new Error("should be unique"))
+        ));
+        aHandler.await(Duration.ofMillis(10));
+
+        Assertions.assertEquals(
+                List.of(
+                        new Error("coupon", "coupon service unavailable"),
+                        new Error("email", "should be unique")
+                ),
+                aHandler.getErrors()
+        );
+    }
+
+    @Test
+    void givenAValidationThatThrowsSynchronously_whenAwait_thenShouldAppendError() {
+        final var aHandler = AsyncValidationHandler.create();
+
+        aHandler.validateAsync(() -> {
+            throw ValidationException.with(new Error("coupon", "should be valid"));
+        });
+        aHandler.validate(() -> {
+            throw ValidationException.with(new Error("name", "should not be empty"));
+        });
+        aHandler.append(NotificationHandler.create(new Error("sku", "should not be empty")));
+        aHandler.await(Duration.ofMillis(10)).await(Duration.ofMillis(10));
+
+        Assertions.assertEquals(3, aHandler.getErrors().size());
+        Assertions.assertEquals("coupon", aHandler.getErrors().get(2).property());
+    }
+
+    private static String sleepAndReturn(final String aValue) {
+        try {
+            Thread.sleep(100);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return aValue;
+    }
+}
@@ -2,6 +2,7 @@ package com.kaua.ecommerce.lib.domain.validation.handler;
 
 import com.kaua.ecommerce.lib.domain.UnitTest;
 import com.kaua.ecommerce.lib.domain.exceptions.DomainException;
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
 import com.kaua.ecommerce.lib.domain.validation.Error;
 import com.kaua.ecommerce.lib.domain.validation.ValidationHandler;
 import com.kaua.ecommerce.lib.domain.validation.Validator;
@@ -103,6 +104,138 @@ public class NotificationHandlerTest extends UnitTest {
         Assertions.assertDoesNotThrow(() -> handler.append(anotherHandler));
     }
 
+    @Test
+    void givenAHandlerWithErrors_whenCallReset_thenShouldClearErrorsAndReuseList() {
+        final var aHandler = NotificationHandler.create(new Error("Common Error"));
+        final var aErrors = aHandler.getErrors();
+
+        aHandler.reset();
+
+        Assertions.assertFalse(aHandler.hasError());
+        Assertions.assertEquals(0, aHandler.getErrors().size());
+
+        aHandler.append(new Error("Another Error"));
+
+        Assertions.assertSame(aErrors, aHandler.getErrors());
+        Assertions.assertEquals(1, aHandler.getErrors().size());
+    }
+
+    @Test
+    void givenAThreadHandler_whenCallForCurrentThreadAgain_thenShouldReturnSameResetHandler() {
+        final var aFirst = NotificationHandler.forCurrentThread();
+        aFirst.append(new Error("Common Error"));
+
+        final var aSecond = NotificationHandler.forCurrentThread();
+
+        Assertions.assertSame(aFirst, aSecond);
+        Assertions.assertFalse(aSecond.hasError());
+    }
+
+    @Test
+    void givenAHandlerWithoutErrors_whenAddToGetErrors_thenShouldCollectTheError() {
+        final var aHandler = NotificationHandler.create();
+
+        aHandler.append(NotificationHandler.create());
+        aHandler.getErrors().add(new Error("Common Error"));
+
+        Assertions.assertTrue(aHandler.hasError());
+        Assertions.assertEquals(1, aHandler.getErrors().size());
+    }
+
+    @Test
+    void givenAMaxErrorsLimit_whenAppendMoreErrors_thenShouldKeepOnlyMaxAndCountDropped() {
+        final var aHandler = NotificationHandler.create(NotificationLimits.maxErrors(2));
+
+        for (int i = 0; i < 5; i++) {
+            aHandler.append(new Error("field" + i, "should not be null"));
+        }
+
+        Assertions.assertEquals(2, aHandler.getErrors().size());
+        Assertions.assertEquals(3, aHandler.getDroppedCount());
+    }
+
+    @Test
+    void givenADeduplicationLimit_whenAppendSameError_thenShouldKeepOneAndCountOccurrences() {
+        final var aHandler = NotificationHandler.create(NotificationLimits.unlimited().withDeduplication());
+        final var aError = new Error("price", "should not be negative");
+
+        aHandler.append(aError);
+        aHandler.append(new Error("price", "should not be negative"));
+        aHandler.validate(() -> {
+            throw DomainException.with(List.of(aError, new Error("sku", "should not be empty")));
+        });
+
+        Assertions.assertEquals(2, aHandler.getErrors().size());
+        Assertions.assertEquals(3, aHandler.getOccurrences(aError));
+        Assertions.assertEquals(1, aHandler.getOccurrences(new Error("sku", "should not be empty")));
+        Assertions.assertEquals(0, aHandler.getOccurrences(new Error("name", "should not be empty")));
+    }
+
+    @Test
+    void givenAFailFastLimit_whenAppendErrorsInsideValidate_thenShouldThrowAfterLimit() {
+        final var aHandler = NotificationHandler.create(NotificationLimits.failFastAfter(2));
+
+        final var aException = Assertions.assertThrows(ValidationException.class, () -> aHandler.validate(() -> {
+            for (int i = 0; i < 10; i++) {
+                aHandler.append(new Error("field" + i, "should not be null"));
+            }
+            return null;
+        }));
+
+        Assertions.assertEquals(2, aException.getErrors().size());
+        Assertions.assertEquals(2, aHandler.getErrors().size());
+    }
+
+    @Test
+    void givenDeduplicatedHandlers_whenAppendHandler_thenShouldMergeOccurrencesAndDropped() {
+        final var aLimits = new NotificationLimits(1, 0, true);
+        final var aError = new Error("price", "should not be negative");
+        final var aOther = NotificationHandler.create(aLimits)
+                .append(aError)
+                .append(aError)
+                .append(new Error("sku", "should not be empty"));
+
+        final var aHandler = NotificationHandler.create(aLimits).append(aError);
+        aHandler.append(aOther);
+
+        Assertions.assertEquals(1, aHandler.getErrors().size());
+        Assertions.assertEquals(3, aHandler.getOccurrences(aError));
+        Assertions.assertEquals(1, aHandler.getDroppedCount());
+    }
+
+    @Test
+    void givenAnUnlimitedHandler_whenAppendDeduplicatedHandler_thenShouldKeepOccurrences() {
+        final var aError = new Error("price", "should not be negative");
+        final var aOther = NotificationHandler.create(NotificationLimits.unlimited().withDeduplication())
+                .append(aError)
+                .append(aError)
+                .append(new Error("sku", "should not be empty"));
+
+        final var aHandler = NotificationHandler.create().append(new Error("name", "should not be empty"));
+        aHandler.append(aOther);
+        aHandler.append(aOther);
+
+        Assertions.assertEquals(3, aHandler.getErrors().size());
+        Assertions.assertEquals(4, aHandler.getOccurrences(aError));
+        Assertions.assertEquals(2, aHandler.getOccurrences(new Error("sku", "should not be empty")));
+        Assertions.assertEquals(1, aHandler.getOccurrences(new Error("name", "should not be empty")));
+    }
+
+    @Test
+    void givenANegativeLimit_whenCreateNotificationLimits_thenShouldThrowValidationException() {
+        Assertions.assertThrows(ValidationException.class, () -> new NotificationLimits(-1, 0, false));
+    }
+
+    @Test
+    void givenFailFastAfterGreaterThanMaxErrors_whenCreateNotificationLimits_thenShouldThrowValidationException() {
+        final var aException = Assertions.assertThrows(
+                ValidationException.class,
+                () -> new NotificationLimits(2, 3, false)
+        );
+
+        Assertions.assertEquals("failFastAfter", aException.getErrors().get(0).property());
+        Assertions.assertDoesNotThrow(() -> new NotificationLimits(0, 3, false));
+    }
 
     static class TestValidation extends Validator {
 
@@ -0,0 +1,80 @@
+package com.kaua.ecommerce.lib.domain.validation.pipeline;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import com.kaua.ecommerce.lib.domain.utils.CpfUtils;
+import com.kaua.ecommerce.lib.domain.validation.handler.NotificationHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class RulePipelineTest extends UnitTest {
+
+    @Test
+    void givenANullCpf_whenValidate_thenShouldSkipMoreExpensiveRulesOfSameProperty() {
+        final var aCalls = new ArrayList<String>();
+        final var aPipeline = RulePipeline.<SignUp>builder()
+                .rule("cpf", RuleCost.REMOTE, in -> aCalls.add("remote"), "should not be blacklisted")
+                .rule("cpf", RuleCost.CHECKSUM, in -> aCalls.add("checksum") && CpfUtils.validateCpf(in.cpf()), "should be a valid cpf")
+                .rule("cpf", RuleCost.NULL_CHECK, in -> aCalls.add("null") && in.cpf() != null, "should not be null")
+                .rule("name", RuleCost.LENGTH, in -> aCalls.add("length") && in.name().length() <= 5, "should not be greater than 5 characters")
+                .build();
+
+        final var aHandler = NotificationHandler.create();
+        aPipeline.validate(new SignUp(null, "too long name"), aHandler);
+
+        Assertions.assertEquals(List.of("null", "length"), aCalls);
+        Assertions.assertEquals(2, aHandler.getErrors().size());
+        Assertions.assertEquals("cpf", aHandler.getErrors().get(0).property());
+        Assertions.assertEquals("should not be null", aHandler.getErrors().get(0).message());
+        Assertions.assertEquals("name", aHandler.getErrors().get(1).property());
+    }
+
+    @Test
+    void givenAValidInput_whenValidateWithTimings_thenShouldRunRulesCheapestFirstAndRecordTimings() {
+        final var aCalls = new ArrayList<String>();
+        final var aPipeline = RulePipeline.<SignUp>builder()
+                .rule("cpf", "blacklist", 500, in -> aCalls.add("blacklist"), "should not be blacklisted")
+                .rule("cpf", RuleCost.CHECKSUM, in -> aCalls.add("checksum") && CpfUtils.validateCpf(in.cpf()), "should be a valid cpf")
+                .rule("cpf", RuleCost.NULL_CHECK, in -> aCalls.add("null") && in.cpf() != null, "should not be null")
+                .recordTimings()
+                .build();
+
+        final var aHandler = NotificationHandler.create();
+        aPipeline.validator(new SignUp("529.982.247-25", "kaua"), aHandler).validate();
+
+        Assertions.assertFalse(aHandler.hasError());
+        Assertions.assertEquals(List.of("null", "blacklist", "checksum"), aCalls);
+
+        final var aTimings = aPipeline.timings();
+        Assertions.assertEquals(3, aTimings.size());
+        Assertions.assertEquals("NULL_CHECK", aTimings.get(0).name());
+        Assertions.assertEquals("blacklist", aTimings.get(1).name());
+        Assertions.assertTrue(aTimings.stream().allMatch(it -> it.invocations() == 1 && it.failures() == 0));
+        Assertions.assertTrue(aTimings.get(2).averageNanos() >= 0);
+        Assertions.assertEquals(aTimings.get(2).totalNanos(), aTimings.get(2).total().toNanos());
+    }
+
+    @Test
+    void givenAPipelineWithoutTimings_whenCallTimings_thenShouldReturnZeroedTimings() {
+        final var aPipeline = RulePipeline.<SignUp>builder()
+                .rule("name", RuleCost.NULL_CHECK, in -> in.name() != null, "should not be null")
+                .build();
+
+        aPipeline.validate(new SignUp(null, null), NotificationHandler.create());
+
+        Assertions.assertEquals(0, aPipeline.timings().get(0).invocations());
+        Assertions.assertEquals(0, aPipeline.timings().get(0).averageNanos());
+    }
+
+    @Test
+    void givenAnEmptyName_whenCreateRule_thenShouldThrowValidationException() {
+        Assertions.assertThrows(ValidationException.class,
+                () -> new ValidationRule<SignUp>("name", "", 0, in -> true, "should not be null"));
+    }
+
+    private record SignUp(String cpf, String name) {
+    }
+}
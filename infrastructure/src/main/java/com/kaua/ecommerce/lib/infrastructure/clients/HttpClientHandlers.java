@@ -35,15 +35,27 @@ public interface HttpClientHandlers {
 
     /**
      * Handles the not found response from the client.
-     * <p>Example: <code>return response -> Mono.error(NotFoundException.with("Not found observed from %s [resourceId:%s]".formatted(namespace(), id)));</code></p>
+     * <p>Example: <code>return response -> Mono.error(NotFoundException.formatted("Not found observed from %s [resourceId:%s]", namespace(), id));</code></p>
      *
      * @param id {@link String}
      * @return {@link Function<ClientResponse, Mono<? extends Throwable>>}
      **/
     default Function<ClientResponse, Mono<? extends Throwable>> notFoundHandler(final String id) {
         return response -> Mono.error(NotFoundException
-                .with("Not found observed from %s [resourceId:%s]"
-                        .formatted(namespace(), id)));
+                .formatted("Not found observed from %s [resourceId:%s]", namespace(), id));
+    }
+
+    /**
+     * Opt-in replacement for {@link #notFoundHandler(String)} on hot lookup paths where 404 is a common answer.
+     * <p>Always returns the same shared, immutable {@link NotFoundException} per namespace, so a miss allocates
+     * neither the exception nor its message. The message does not include the resource id.
+     * Combined with {@link HttpClientUtils#doGet(String, java.util.function.Supplier)} a miss becomes an {@link Optional#empty()}.</p>
+     * <p>Example: <code>.onStatus(isNotFound, sharedNotFoundHandler())</code></p>
+     *
+     * @return {@link Function<ClientResponse, Mono<? extends Throwable>>}
+     **/
+    default Function<ClientResponse, Mono<? extends Throwable>> sharedNotFoundHandler() {
+        return SharedNotFoundHandlers.forNamespace(namespace());
     }
 
     /**
@@ -159,14 +171,18 @@ public interface HttpClientHandlers {
             final var aAction = Optional.ofNullable(actionParam.length > 0 ? actionParam[0] : null);
 
             return aResponse.flatMap(aResp -> {
-                final var aMessage = aAction.map(action -> "Error observed during %s from %s [method:%s] [resourceId:%s] [status:%s] [response:%s]"
-                                .formatted(action, namespace(), aMethodName, id, aStatus, aResp))
-                        .orElse("Error observed from %s [method:%s] [resourceId:%s] [status:%s] [response:%s]"
-                                .formatted(namespace(), aMethodName, id, aStatus, aResp));
+                final var aException = aAction.map(action -> InternalErrorException.formatted(aStatus,
+                                "Error observed during %s from %s [method:%s] [resourceId:%s] [status:%s] [response:%s]",
+                                action, namespace(), aMethodName, id, aStatus, aResp))
+                        .orElseGet(() -> InternalErrorException.formatted(aStatus,
+                                "Error observed from %s [method:%s] [resourceId:%s] [status:%s] [response:%s]",
+                                namespace(), aMethodName, id, aStatus, aResp));
 
-                logger().info(aMessage);
+                if (logger().isInfoEnabled()) {
+                    logger().info(aException.getMessage());
+                }
 
-                return Mono.error(InternalErrorException.with(aMessage, aStatus));
+                return Mono.error(aException);
             }).switchIfEmpty(Mono.defer(() -> handleErrorWithoutResponse(
                     "Error observed",
                     aMethodName,
@@ -188,18 +204,18 @@ public interface HttpClientHandlers {
 
         return aResponse.flatMap(aResp -> {
             final var aError = Optional.ofNullable(convertToErrorResponse(aResp))
-                    .orElse(new ErrorResponse("%s from %s"
+                    .orElseGet(() -> new ErrorResponse("%s from %s"
                             .formatted(errorType, namespace()), List.of(new Error(aResp))));
 
-            final var aMessage = createBodyErrorMessage(
-                    errorType,
-                    id,
-                    aMethodName,
-                    aError,
-                    actionParam
-            );
-
-            logger().info(aMessage);
+            if (logger().isInfoEnabled()) {
+                logger().info(createBodyErrorMessage(
+                        errorType,
+                        id,
+                        aMethodName,
+                        aError,
+                        actionParam
+                ));
+            }
 
             return Mono.error(exceptionSupplier.apply(aError));
         }).switchIfEmpty(Mono.defer(() -> handleErrorWithoutResponse(errorType, aMethodName, id, exceptionSupplier, actionParam))).cast(Throwable.class);
@@ -228,7 +244,7 @@ public interface HttpClientHandlers {
 
         return aAction.map(act -> "%s during %s from %s [method:%s] [resourceId:%s] [response:%s]"
                         .formatted(errorType, act, namespace(), aMethodName, id, aResponse))
-                .orElse("%s from %s [method:%s] [resourceId:%s] [response:%s]"
+                .orElseGet(() -> "%s from %s [method:%s] [resourceId:%s] [response:%s]"
                         .formatted(errorType, namespace(), aMethodName, id, aResponse));
     }
 
@@ -136,20 +136,19 @@ public interface HttpClientUtils extends HttpClientHandlers {
         final var cause = ExceptionUtils.getRootCause(ex);
 
         if (cause instanceof ConnectException) {
-            logger().info("ConnectionTimeout error observed from %s [resourceId:%s]".formatted(namespace(), id));
-            return InternalErrorException.with("ConnectionTimeout error observed from %s [resourceId:%s]"
-                    .formatted(namespace(), id));
+            return logInfo(InternalErrorException
+                    .formatted("ConnectionTimeout error observed from %s [resourceId:%s]", namespace(), id));
         }
 
         if (cause instanceof ReadTimeoutException || cause instanceof WriteTimeoutException) {
-            logger().info("Timeout error observed from %s [resourceId:%s]".formatted(namespace(), id));
-            return InternalErrorException.with("Timeout error observed from %s [resourceId:%s]"
-                    .formatted(namespace(), id));
+            return logInfo(InternalErrorException
+                    .formatted("Timeout error observed from %s [resourceId:%s]", namespace(), id));
         }
 
-        logger().info("Error observed from %s [resourceId:%s]".formatted(namespace(), id), ex);
-        return InternalErrorException.with("Error observed from %s [resourceId:%s]"
-                .formatted(namespace(), id), ex);
+        final var aException = InternalErrorException
+                .formatted(ex, "Error observed from %s [resourceId:%s]", namespace(), id);
+        logger().info(aException.getMessage(), ex);
+        return aException;
     }
 
     private InternalErrorException handleThrowable(final String id, final Throwable t) {
@@ -157,28 +156,29 @@ public interface HttpClientUtils extends HttpClientHandlers {
             return ex;
         }
 
-        logger().error("Unhandled error observed from %s [resourceId:%s]".formatted(namespace(), id), t);
-        return InternalErrorException.with("Unhandled error observed from %s [resourceId:%s]".formatted(namespace(), id), t);
+        final var aException = InternalErrorException
+                .formatted(t, "Unhandled error observed from %s [resourceId:%s]", namespace(), id);
+        logger().error(aException.getMessage(), t);
+        return aException;
     }
 
     private InternalErrorException handleWebClientException(final WebClientException ex) {
         final var cause = ExceptionUtils.getRootCause(ex);
 
         if (cause instanceof ConnectException) {
-            logger().info("ConnectionTimeout error observed from %s on making request".formatted(namespace()));
-            return InternalErrorException.with("ConnectionTimeout error observed from %s on making request"
-                    .formatted(namespace()));
+            return logInfo(InternalErrorException
+                    .formatted("ConnectionTimeout error observed from %s on making request", namespace()));
         }
 
         if (cause instanceof ReadTimeoutException || cause instanceof WriteTimeoutException) {
-            logger().info("Timeout error observed from %s on making request".formatted(namespace()));
-            return InternalErrorException.with("Timeout error observed from %s on making request"
-                    .formatted(namespace()));
+            return logInfo(InternalErrorException
+                    .formatted("Timeout error observed from %s on making request", namespace()));
         }
 
-        logger().info("Error observed from %s on making request".formatted(namespace()), ex);
-        return InternalErrorException.with("Error observed from %s on making request"
-                .formatted(namespace()), ex);
+        final var aException = InternalErrorException
+                .formatted(ex, "Error observed from %s on making request", namespace());
+        logger().info(aException.getMessage(), ex);
+        return aException;
     }
 
     private InternalErrorException handleThrowable(final Throwable t) {
@@ -186,7 +186,16 @@ public interface HttpClientUtils extends HttpClientHandlers {
             return ex;
         }
 
-        logger().error("Unhandled error observed from %s on making request".formatted(namespace()), t);
-        return InternalErrorException.with("Unhandled error observed from %s on making request".formatted(namespace()), t);
+        final var aException = InternalErrorException
+                .formatted(t, "Unhandled error observed from %s on making request", namespace());
+        logger().error(aException.getMessage(), t);
+        return aException;
+    }
+
+    private InternalErrorException logInfo(final InternalErrorException aException) {
+        if (logger().isInfoEnabled()) {
+            logger().info(aException.getMessage());
+        }
+        return aException;
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.kaua.ecommerce.lib.infrastructure.clients;
+
+import com.kaua.ecommerce.lib.domain.exceptions.NotFoundException;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+final class SharedNotFoundHandlers {
+
+    private static final Map<String, Function<ClientResponse, Mono<? extends Throwable>>> HANDLERS =
+            new ConcurrentHashMap<>();
+
+    private SharedNotFoundHandlers() {}
+
+    static Function<ClientResponse, Mono<? extends Throwable>> forNamespace(final String aNamespace) {
+        final var aHandler = HANDLERS.get(aNamespace);
+        if (aHandler != null) {
+            return aHandler;
+        }
+
+        return HANDLERS.computeIfAbsent(aNamespace, namespace -> {
+            final var aError = Mono.<Throwable>error(NotFoundException
+                    .preallocated("Not found observed from %s".formatted(namespace)));
+            return response -> aError;
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package com.kaua.ecommerce.lib.infrastructure.configurations;
+
+import com.kaua.ecommerce.lib.infrastructure.web.ConditionalGetWebFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.server.WebFilter;
+
+@Configuration(proxyBeanMethods = false)
+public class ConditionalGetConfig {
+
+    @Bean
+    public WebFilter conditionalGetWebFilter() {
+        return new ConditionalGetWebFilter();
+    }
+}
@@ -0,0 +1,24 @@
+package com.kaua.ecommerce.lib.infrastructure.configurations;
+
+import com.kaua.ecommerce.lib.infrastructure.web.DomainErrorWebExceptionHandler;
+import com.kaua.ecommerce.lib.infrastructure.web.ErrorResponseEncoder;
+import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+@Configuration(proxyBeanMethods = false)
+public class ErrorResponseConfig {
+
+    @Bean
+    public ErrorResponseEncoder errorResponseEncoder() {
+        return ErrorResponseEncoder.create();
+    }
+
+    // runs before Spring Boot's DefaultErrorWebExceptionHandler (order -1)
+    @Bean
+    @Order(-2)
+    public ErrorWebExceptionHandler domainErrorWebExceptionHandler(final ErrorResponseEncoder errorResponseEncoder) {
+        return new DomainErrorWebExceptionHandler(errorResponseEncoder);
+    }
+}
@@ -0,0 +1,127 @@
+package com.kaua.ecommerce.lib.infrastructure.export;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Writes to a {@link FileChannel} through two direct buffers: while one is written to disk by a
+ * background thread the caller fills the other, so serialization and disk I/O overlap and memory
+ * stays at two buffers whatever the size of the output.
+ */
+final class DoubleBufferedChannelOutputStream extends OutputStream {
+
+    private final FileChannel channel;
+    private final ExecutorService writer;
+    private ByteBuffer current;
+    private ByteBuffer spare;
+    private Future<?> pendingWrite = CompletableFuture.completedFuture(null);
+    private long bytesWritten;
+    private boolean closed;
+
+    DoubleBufferedChannelOutputStream(final FileChannel channel, final int bufferSize) {
+        this.channel = channel;
+        this.current = ByteBuffer.allocateDirect(bufferSize);
+        this.spare = ByteBuffer.allocateDirect(bufferSize);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            final var aThread = new Thread(runnable, "export-writer");
+            aThread.setDaemon(true);
+            return aThread;
+        });
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (!this.current.hasRemaining()) {
+            swap();
+        }
+        this.current.put((byte) b);
+    }
+
+    @Override
+    public void write(final byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (!this.current.hasRemaining()) {
+                swap();
+            }
+            final var aChunk = Math.min(len, this.current.remaining());
+            this.current.put(b, off, aChunk);
+            off += aChunk;
+            len -= aChunk;
+        }
+    }
+
+    /**
+     * Waits for every byte to reach the channel, without forcing it to the storage device.
+     */
+    @Override
+    public void flush() throws IOException {
+        swap();
+        awaitPendingWrite();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            flush();
+        } finally {
+            this.writer.shutdownNow();
+        }
+    }
+
+    long bytesWritten() {
+        return this.bytesWritten;
+    }
+
+    private void swap() throws IOException {
+        awaitPendingWrite();
+
+        final var aFull = this.current;
+        aFull.flip();
+        this.bytesWritten += aFull.remaining();
+        this.current = this.spare;
+        this.spare = aFull;
+
+        if (aFull.hasRemaining()) {
+            this.pendingWrite = this.writer.submit(() -> {
+                try {
+                    while (aFull.hasRemaining()) {
+                        this.channel.write(aFull);
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                aFull.clear();
+            });
+        } else {
+            aFull.clear();
+        }
+    }
+
+    private void awaitPendingWrite() throws IOException {
+        try {
+            this.pendingWrite.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while writing the export");
+        } catch (final ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
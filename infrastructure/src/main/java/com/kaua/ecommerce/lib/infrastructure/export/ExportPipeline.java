@@ -0,0 +1,299 @@
+package com.kaua.ecommerce.lib.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import com.kaua.ecommerce.lib.domain.pagination.Pagination;
+import com.kaua.ecommerce.lib.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.lib.domain.validation.Error;
+import com.kaua.ecommerce.lib.infrastructure.configurations.json.Json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams every page of a {@link SearchQuery} into a file as CSV or NDJSON.
+ * <p>Pages are fetched one at a time (page {@code n + 1} is only fetched after page {@code n} was
+ * written), each item goes through the mapper straight into a direct buffer, and two buffers alternate
+ * between the serializer and a writer thread. Memory stays at one page plus the buffers whatever the
+ * export size. The output may be gzip compressed.</p>
+ *
+ * <pre>{@code
+ * final var aResult = ExportPipeline.<Order>csv(
+ *                 List.of("id", "customer", "total"),
+ *                 order -> List.of(order.getId().value(), order.customerId(), order.total()))
+ *         .gzip()
+ *         .export(aQuery, orderGateway::findAll, Path.of("/exports/orders.csv.gz"));
+ * }</pre>
+ */
+public final class ExportPipeline<T> {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    private static final ObjectWriter WRITER = Json.mapper().writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final RowWriter<T> rowWriter;
+    private final boolean gzip;
+    private final int bufferSize;
+
+    private ExportPipeline(final RowWriter<T> rowWriter, final boolean gzip, final int bufferSize) {
+        this.rowWriter = rowWriter;
+        this.gzip = gzip;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * @param aHeaders the header line
+     * @param aRow     maps an item to its values, in header order; {@code null} values are written empty
+     * @return a CSV (RFC 4180) pipeline
+     */
+    public static <T> ExportPipeline<T> csv(final List<String> aHeaders, final Function<T, List<?>> aRow) {
+        return new ExportPipeline<>(new CsvRowWriter<>(aHeaders, aRow), false, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param aMapper maps an item to the object serialized on its line, with the {@link Json} settings
+     * @return a newline-delimited JSON pipeline
+     */
+    public static <T> ExportPipeline<T> ndjson(final Function<T, ?> aMapper) {
+        return new ExportPipeline<>(new NdjsonRowWriter<>(aMapper), false, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ExportPipeline<T> gzip() {
+        return new ExportPipeline<>(this.rowWriter, true, this.bufferSize);
+    }
+
+    /**
+     * @param aBufferSize size in bytes of each of the two direct buffers, should be greater than 0
+     */
+    public ExportPipeline<T> bufferSize(final int aBufferSize) {
+        if (aBufferSize <= 0) {
+            throw ValidationException.with(new Error("bufferSize", "should be greater than 0"));
+        }
+        return new ExportPipeline<>(this.rowWriter, this.gzip, aBufferSize);
+    }
+
+    /**
+     * Exports to a new file, replacing an existing one.
+     * <p>The rows are written to a temporary file next to the target, moved onto it once the export
+     * completed: a failed export leaves the target untouched and no partial file behind.</p>
+     */
+    public ExportResult export(
+            final SearchQuery aFirstQuery,
+            final Function<SearchQuery, Pagination<T>> aFetchPage,
+            final Path aTarget
+    ) {
+        final var aTemporary = aTarget.resolveSibling(".%s.%s.tmp".formatted(aTarget.getFileName(), UUID.randomUUID()));
+        var isMoved = false;
+        try {
+            final ExportResult aResult;
+            try (final var aChannel = FileChannel.open(
+                    aTemporary,
+                    StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE
+            )) {
+                aResult = export(aFirstQuery, aFetchPage, aChannel);
+            }
+            moveOnto(aTemporary, aTarget);
+            isMoved = true;
+            return aResult;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (!isMoved) {
+                deleteQuietly(aTemporary);
+            }
+        }
+    }
+
+    /**
+     * Exports from the current position of the channel, the channel is left open.
+     *
+     * @param aFirstQuery the query of the first page, the next pages are read until a page has no next page
+     * @param aFetchPage  fetches one page
+     * @param aChannel    the target channel
+     * @return the export totals
+     */
+    public ExportResult export(
+            final SearchQuery aFirstQuery,
+            final Function<SearchQuery, Pagination<T>> aFetchPage,
+            final FileChannel aChannel
+    ) {
+        final var aChannelOutput = new DoubleBufferedChannelOutputStream(aChannel, this.bufferSize);
+        OutputStream aOutput = aChannelOutput;
+        var isComplete = false;
+        try {
+            if (this.gzip) {
+                aOutput = new GZIPOutputStream(aChannelOutput, GZIP_BUFFER_SIZE);
+            }
+
+            var aRows = 0L;
+            var aPages = 0L;
+            try (final var aRowOutput = this.rowWriter.open(aOutput)) {
+                var aQuery = aFirstQuery;
+                while (true) {
+                    final var aPage = aFetchPage.apply(aQuery);
+                    aPages++;
+                    for (final T aItem : aPage.items()) {
+                        aRowOutput.write(aItem);
+                        aRows++;
+                    }
+                    if (aPage.items().isEmpty() || !aPage.metadata().hasNext()) {
+                        break;
+                    }
+                    aQuery = aQuery.withPage(aQuery.page() + 1);
+                }
+            }
+
+            aOutput.close();
+            isComplete = true;
+            return new ExportResult(aRows, aPages, aChannelOutput.bytesWritten());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (!isComplete) {
+                // closing the gzip stream would write a valid trailer after a truncated export,
+                // only the writer thread is stopped and the deflater is left to its cleaner
+                closeQuietly(aChannelOutput);
+            }
+        }
+    }
+
+    private static void moveOnto(final Path aSource, final Path aTarget) throws IOException {
+        try {
+            Files.move(aSource, aTarget, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(aSource, aTarget, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void closeQuietly(final OutputStream aOutput) {
+        try {
+            aOutput.close();
+        } catch (final IOException ignored) {
+            // on failure the original exception is the one reported
+        }
+    }
+
+    private static void deleteQuietly(final Path aPath) {
+        try {
+            Files.deleteIfExists(aPath);
+        } catch (final IOException ignored) {
+            // on failure the original exception is the one reported
+        }
+    }
+
+    private interface RowWriter<T> {
+        RowOutput<T> open(OutputStream aOutput) throws IOException;
+    }
+
+    private interface RowOutput<T> extends AutoCloseable {
+        void write(T aItem) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private record CsvRowWriter<T>(List<String> headers, Function<T, List<?>> row) implements RowWriter<T> {
+
+        @Override
+        public RowOutput<T> open(final OutputStream aOutput) throws IOException {
+            final var aLine = new StringBuilder(256);
+
+            final RowOutput<T> aRowOutput = new RowOutput<>() {
+                @Override
+                public void write(final T aItem) throws IOException {
+                    writeLine(aOutput, aLine, row.apply(aItem));
+                }
+
+                @Override
+                public void close() {
+                    // the stream is owned by the pipeline
+                }
+            };
+            writeLine(aOutput, aLine, headers);
+            return aRowOutput;
+        }
+
+        private static void writeLine(
+                final OutputStream aOutput,
+                final StringBuilder aLine,
+                final List<?> aValues
+        ) throws IOException {
+            aLine.setLength(0);
+            for (int i = 0; i < aValues.size(); i++) {
+                if (i > 0) {
+                    aLine.append(',');
+                }
+                appendField(aLine, aValues.get(i));
+            }
+            aLine.append("\r\n");
+            aOutput.write(aLine.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static void appendField(final StringBuilder aLine, final Object aValue) {
+            if (aValue == null) {
+                return;
+            }
+
+            final var aText = aValue.toString();
+            var needsQuotes = false;
+            for (int i = 0; i < aText.length() && !needsQuotes; i++) {
+                final var c = aText.charAt(i);
+                needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!needsQuotes) {
+                aLine.append(aText);
+                return;
+            }
+
+            aLine.append('"');
+            for (int i = 0; i < aText.length(); i++) {
+                final var c = aText.charAt(i);
+                if (c == '"') {
+                    aLine.append('"');
+                }
+                aLine.append(c);
+            }
+            aLine.append('"');
+        }
+    }
+
+    private record NdjsonRowWriter<T>(Function<T, ?> mapper) implements RowWriter<T> {
+
+        @Override
+        public RowOutput<T> open(final OutputStream aOutput) throws IOException {
+            final var aGenerator = WRITER.createGenerator(aOutput);
+            aGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            aGenerator.setRootValueSeparator(null);
+
+            return new RowOutput<>() {
+                @Override
+                public void write(final T aItem) throws IOException {
+                    WRITER.writeValue(aGenerator, mapper.apply(aItem));
+                    aGenerator.writeRaw('\n');
+                }
+
+                @Override
+                public void close() throws IOException {
+                    aGenerator.close();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.kaua.ecommerce.lib.infrastructure.export;
+
+/**
+ * @param rows         number of exported items
+ * @param pages        number of fetched pages
+ * @param bytesWritten bytes written to the channel, after compression
+ */
+public record ExportResult(
+        long rows,
+        long pages,
+        long bytesWritten
+) {
+}
@@ -0,0 +1,180 @@
+package com.kaua.ecommerce.lib.infrastructure.pagination;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kaua.ecommerce.lib.domain.pagination.Pagination;
+import com.kaua.ecommerce.lib.domain.pagination.PaginationMetadata;
+import com.kaua.ecommerce.lib.infrastructure.configurations.json.Json;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Writes a {@link Pagination} as JSON ({@code {"metadata": {...}, "items": [...]}}, same shape and
+ * naming as {@link Json}) without building the whole body in memory.
+ * <p>The metadata is written first and the items are serialized one by one while they are iterated,
+ * so a {@link Pagination#mapLazy(java.util.function.Function)} view is mapped during the write and never
+ * copied. The {@link Flux} variants emit one {@link DataBuffer} per chunk of items, on demand.</p>
+ *
+ * <pre>{@code
+ * return ServerResponse.ok()
+ *         .contentType(MediaType.APPLICATION_JSON)
+ *         .body(BodyInserters.fromDataBuffers(PaginationJsonWriter.write(aPage.mapLazy(Presenter::present), aFactory)));
+ * }</pre>
+ */
+public final class PaginationJsonWriter {
+
+    public static final int DEFAULT_ITEMS_PER_CHUNK = 64;
+
+    private static final ObjectMapper MAPPER = Json.mapper();
+    // flushing after every item would turn each item into a socket write
+    private static final ObjectWriter WRITER = MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private static final int CHUNK_CAPACITY = 8192;
+
+    private PaginationJsonWriter() {}
+
+    /**
+     * Writes the page to the stream, the stream is flushed but not closed. When an item fails the
+     * JSON is left unterminated, so the client cannot mistake a truncated page for a complete one.
+     */
+    public static void write(final Pagination<?> aPagination, final OutputStream aOutput) {
+        try (final var aGenerator = MAPPER.getFactory().createGenerator(aOutput)) {
+            aGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            aGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            writeHead(aGenerator, aPagination.metadata());
+            for (final Object aItem : aPagination.items()) {
+                WRITER.writeValue(aGenerator, aItem);
+            }
+            writeTail(aGenerator);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Flux<DataBuffer> write(final Pagination<?> aPagination, final DataBufferFactory aFactory) {
+        return write(aPagination.metadata(), Flux.fromIterable(aPagination.items()), aFactory, DEFAULT_ITEMS_PER_CHUNK);
+    }
+
+    /**
+     * @param aMetadata      the metadata, known before the items
+     * @param aItems         the items, serialized as they are emitted
+     * @param aFactory       allocates the chunks
+     * @param aItemsPerChunk how many items each emitted buffer holds at most
+     * @return the JSON body, the first buffer holds the metadata
+     */
+    public static <T> Flux<DataBuffer> write(
+            final PaginationMetadata aMetadata,
+            final Flux<T> aItems,
+            final DataBufferFactory aFactory,
+            final int aItemsPerChunk
+    ) {
+        return Flux.using(
+                () -> new Session(aFactory),
+                aSession -> Flux.concat(
+                        Mono.fromCallable(() -> aSession.chunk(aGenerator -> writeHead(aGenerator, aMetadata))),
+                        aItems.buffer(aItemsPerChunk).map(aChunk -> aSession.chunk(aGenerator -> writeItems(aGenerator, aChunk))),
+                        Mono.fromCallable(() -> aSession.chunk(PaginationJsonWriter::writeTail))
+                ),
+                Session::close
+        );
+    }
+
+    private static void writeHead(final JsonGenerator aGenerator, final PaginationMetadata aMetadata) throws IOException {
+        aGenerator.writeStartObject();
+        aGenerator.writeFieldName("metadata");
+        WRITER.writeValue(aGenerator, aMetadata);
+        aGenerator.writeArrayFieldStart("items");
+    }
+
+    private static void writeItems(final JsonGenerator aGenerator, final List<?> aItems) throws IOException {
+        for (final Object aItem : aItems) {
+            WRITER.writeValue(aGenerator, aItem);
+        }
+    }
+
+    private static void writeTail(final JsonGenerator aGenerator) throws IOException {
+        aGenerator.writeEndArray();
+        aGenerator.writeEndObject();
+    }
+
+    @FunctionalInterface
+    private interface JsonWrite {
+        void write(JsonGenerator aGenerator) throws IOException;
+    }
+
+    /**
+     * One generator per subscription, its output is pointed at a new buffer for every chunk so the
+     * generator keeps the JSON context (separators, nesting) across chunks.
+     */
+    private static final class Session implements AutoCloseable {
+
+        private final DataBufferFactory factory;
+        private final ChunkOutputStream output = new ChunkOutputStream();
+        private final JsonGenerator generator;
+
+        private Session(final DataBufferFactory factory) throws IOException {
+            this.factory = factory;
+            this.generator = MAPPER.getFactory().createGenerator(this.output);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        }
+
+        private DataBuffer chunk(final JsonWrite aWrite) {
+            final var aBuffer = this.factory.allocateBuffer(CHUNK_CAPACITY);
+            this.output.target = aBuffer.asOutputStream();
+            try {
+                aWrite.write(this.generator);
+                this.generator.flush();
+                return aBuffer;
+            } catch (final IOException e) {
+                DataBufferUtils.release(aBuffer);
+                throw new UncheckedIOException(e);
+            } catch (final RuntimeException e) {
+                DataBufferUtils.release(aBuffer);
+                throw e;
+            } finally {
+                this.output.target = null;
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                this.generator.close();
+            } catch (final IOException | RuntimeException ignored) {
+                // nothing was left to write, or the subscription was cancelled mid-body
+            }
+        }
+    }
+
+    private static final class ChunkOutputStream extends OutputStream {
+
+        private OutputStream target;
+
+        @Override
+        public void write(final int b) throws IOException {
+            target().write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            target().write(b, off, len);
+        }
+
+        private OutputStream target() throws IOException {
+            if (this.target == null) {
+                throw new IOException("no chunk is being written");
+            }
+            return this.target;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.kaua.ecommerce.lib.infrastructure.pagination;
+
+import com.kaua.ecommerce.lib.domain.pagination.Pagination;
+import com.kaua.ecommerce.lib.domain.pagination.SearchQuery;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * Turns a page-fetching function into a stream of items, for exports and back-office scans.
+ * <p>Pages are fetched on demand: the next page is requested while the items of the current one
+ * are consumed, and at most {@code prefetchPages} pages are buffered ahead, so memory stays flat
+ * whatever the result size. Fetching stops at the first page without a next page
+ * ({@link com.kaua.ecommerce.lib.domain.pagination.PaginationMetadata#hasNext()}) or without items,
+ * and cancelling the subscription stops fetching.</p>
+ */
+public final class PaginationStreams {
+
+    public static final int DEFAULT_PREFETCH_PAGES = 1;
+
+    private PaginationStreams() {}
+
+    public static <T> Flux<T> stream(
+            final SearchQuery aFirstQuery,
+            final Function<SearchQuery, Mono<Pagination<T>>> aFetchPage
+    ) {
+        return stream(aFirstQuery, aFetchPage, DEFAULT_PREFETCH_PAGES);
+    }
+
+    /**
+     * @param aFirstQuery    the query of the first page
+     * @param aFetchPage     fetches one page
+     * @param aPrefetchPages how many pages may be fetched ahead of the consumer
+     * @return the items of every page, in order
+     */
+    public static <T> Flux<T> stream(
+            final SearchQuery aFirstQuery,
+            final Function<SearchQuery, Mono<Pagination<T>>> aFetchPage,
+            final int aPrefetchPages
+    ) {
+        return Mono.defer(() -> aFetchPage.apply(aFirstQuery))
+                .map(aPage -> new FetchedPage<>(aFirstQuery, aPage))
+                .expand(aFetched -> aFetched.hasNext()
+                        ? Mono.defer(() -> aFetchPage.apply(aFetched.nextQuery()))
+                                .map(aPage -> new FetchedPage<>(aFetched.nextQuery(), aPage))
+                        : Mono.empty())
+                .concatMapIterable(aFetched -> aFetched.page().items(), aPrefetchPages);
+    }
+
+    /**
+     * Same as {@link #stream(SearchQuery, Function)} for blocking gateways (JPA, JDBC), the pages are
+     * fetched on {@link Schedulers#boundedElastic()}.
+     */
+    public static <T> Flux<T> streamBlocking(
+            final SearchQuery aFirstQuery,
+            final Function<SearchQuery, Pagination<T>> aFetchPage
+    ) {
+        return streamBlocking(aFirstQuery, aFetchPage, Schedulers.boundedElastic());
+    }
+
+    public static <T> Flux<T> streamBlocking(
+            final SearchQuery aFirstQuery,
+            final Function<SearchQuery, Pagination<T>> aFetchPage,
+            final Scheduler aScheduler
+    ) {
+        return stream(
+                aFirstQuery,
+                aQuery -> Mono.fromCallable(() -> aFetchPage.apply(aQuery)).subscribeOn(aScheduler)
+        );
+    }
+
+    /**
+     * Same as {@link #streamBlocking(SearchQuery, Function)} exposed as a {@link Flow.Publisher},
+     * for consumers outside of Reactor.
+     */
+    public static <T> Flow.Publisher<T> publisher(
+            final SearchQuery aFirstQuery,
+            final Function<SearchQuery, Pagination<T>> aFetchPage
+    ) {
+        return JdkFlowAdapter.publisherToFlowPublisher(streamBlocking(aFirstQuery, aFetchPage));
+    }
+
+    private record FetchedPage<T>(SearchQuery query, Pagination<T> page) {
+
+        private boolean hasNext() {
+            return page.metadata().hasNext() && !page.items().isEmpty();
+        }
+
+        private SearchQuery nextQuery() {
+            return query.withPage(query.page() + 1);
+        }
+    }
+}
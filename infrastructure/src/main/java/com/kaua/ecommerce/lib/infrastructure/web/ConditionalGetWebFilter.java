@@ -0,0 +1,109 @@
+package com.kaua.ecommerce.lib.infrastructure.web;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Answers {@code If-None-Match} with {@code 304 Not Modified} for GET and HEAD requests whose
+ * response carries a matching {@code ETag} header, such as one computed with {@link PaginationETag}.
+ * <p>The check runs when the handler hands its body over: on a match the body is drained and its
+ * buffers are released without being written, so nothing but the headers goes over the network.</p>
+ * <p>Handlers returning {@code ResponseEntity.ok().eTag(..)} or {@code ServerResponse.ok().eTag(..)}
+ * do not need this filter, WebFlux already answers them through
+ * {@link ServerWebExchange#checkNotModified(String)}. It is meant for handlers that set the header on
+ * the {@link ServerHttpResponse} themselves, those writing buffers with
+ * {@link ServerHttpResponse#writeWith(Publisher)} (e.g. {@code PaginationJsonWriter}) or annotated
+ * methods returning a bare body.</p>
+ */
+public class ConditionalGetWebFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        final var aRequest = exchange.getRequest();
+        final var aIfNoneMatch = aRequest.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+        if (aIfNoneMatch == null || !isConditionalMethod(aRequest)) {
+            return chain.filter(exchange);
+        }
+
+        final var aResponse = new NotModifiedResponse(exchange.getResponse(), aIfNoneMatch);
+        return chain.filter(exchange.mutate().response(aResponse).build());
+    }
+
+    static boolean matches(final String aIfNoneMatch, final String aETag) {
+        if (aETag == null) {
+            return false;
+        }
+
+        final var aOpaqueTag = opaque(aETag);
+        for (final String aCandidate : aIfNoneMatch.split(",")) {
+            final var aTrimmed = aCandidate.trim();
+            if (aTrimmed.equals("*") || opaque(aTrimmed).equals(aOpaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-None-Match uses the weak comparison, W/ prefixes are ignored
+    private static String opaque(final String aTag) {
+        return aTag.startsWith("W/") ? aTag.substring(2) : aTag;
+    }
+
+    private static boolean isConditionalMethod(final ServerHttpRequest aRequest) {
+        return HttpMethod.GET.equals(aRequest.getMethod()) || HttpMethod.HEAD.equals(aRequest.getMethod());
+    }
+
+    private static final class NotModifiedResponse extends ServerHttpResponseDecorator {
+
+        private final String ifNoneMatch;
+
+        private NotModifiedResponse(final ServerHttpResponse delegate, final String ifNoneMatch) {
+            super(delegate);
+            this.ifNoneMatch = ifNoneMatch;
+        }
+
+        @Override
+        public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+            if (isNotModified()) {
+                return notModified(Flux.from(body));
+            }
+            return super.writeWith(body);
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(final Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            if (isNotModified()) {
+                return notModified(Flux.from(body).concatMap(Flux::from));
+            }
+            return super.writeAndFlushWith(body);
+        }
+
+        private boolean isNotModified() {
+            final var aStatus = getStatusCode();
+            return (aStatus == null || aStatus.value() == HttpStatus.OK.value())
+                    && matches(this.ifNoneMatch, getHeaders().getETag());
+        }
+
+        private Mono<Void> notModified(final Flux<? extends DataBuffer> aBody) {
+            setStatusCode(HttpStatus.NOT_MODIFIED);
+            final var aHeaders = getHeaders();
+            aHeaders.remove(HttpHeaders.CONTENT_TYPE);
+            aHeaders.remove(HttpHeaders.CONTENT_LENGTH);
+            // the body may hold pooled buffers already allocated by the handler, they must be released
+            return aBody.doOnNext(DataBufferUtils::release)
+                    .then(Mono.defer(this::setComplete));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.kaua.ecommerce.lib.infrastructure.web;
+
+import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Writes the lib exceptions as JSON error bodies through an {@link ErrorResponseEncoder}.
+ * Any other exception, or a response already committed, is left to the next handler.
+ */
+public class DomainErrorWebExceptionHandler implements ErrorWebExceptionHandler {
+
+    private final ErrorResponseEncoder encoder;
+
+    public DomainErrorWebExceptionHandler(final ErrorResponseEncoder encoder) {
+        this.encoder = encoder;
+    }
+
+    @Override
+    public Mono<Void> handle(final ServerWebExchange exchange, final Throwable ex) {
+        final var aResponse = exchange.getResponse();
+        if (aResponse.isCommitted()) {
+            return Mono.error(ex);
+        }
+
+        return this.encoder.statusOf(ex)
+                .map(aStatus -> {
+                    aResponse.setStatusCode(aStatus);
+                    aResponse.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    return aResponse.writeWith(Mono.fromSupplier(() -> this.encoder.encode(ex, aResponse.bufferFactory())));
+                })
+                .orElseGet(() -> Mono.error(ex));
+    }
+}
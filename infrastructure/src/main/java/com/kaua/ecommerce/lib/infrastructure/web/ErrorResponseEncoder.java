@@ -0,0 +1,203 @@
+package com.kaua.ecommerce.lib.infrastructure.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.kaua.ecommerce.lib.domain.exceptions.DomainException;
+import com.kaua.ecommerce.lib.domain.exceptions.InternalErrorException;
+import com.kaua.ecommerce.lib.domain.exceptions.NoStacktraceException;
+import com.kaua.ecommerce.lib.domain.exceptions.NotFoundException;
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import com.kaua.ecommerce.lib.domain.validation.Error;
+import com.kaua.ecommerce.lib.infrastructure.configurations.json.Json;
+import com.kaua.ecommerce.lib.infrastructure.exceptions.ConflictException;
+import com.kaua.ecommerce.lib.infrastructure.exceptions.ForbiddenException;
+import com.kaua.ecommerce.lib.infrastructure.exceptions.UnauthorizedException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Encodes exceptions to the JSON error body {@code {"message": "...", "errors": [{"property": "...", "message": "..."}]}}
+ * without going through the {@link com.fasterxml.jackson.databind.ObjectMapper}.
+ * <p>Bodies are written to buffers of the {@link DataBufferFactory} of the response. The bytes of the bodies
+ * that never carry request data, those of {@link NoStacktraceException#isPreallocated() preallocated} exceptions
+ * and the generic 5xx bodies, are kept in an LRU of {@code cacheSize} entries and wrapped without encoding.
+ * {@link InternalErrorException} messages and the messages of any 5xx are never sent to the client, they hold
+ * upstream response bodies, the body only carries the reason phrase of the status.</p>
+ */
+public final class ErrorResponseEncoder {
+
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private static final JsonFactory JSON_FACTORY = Json.mapper().getFactory();
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Map<String, byte[]> cache;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private ErrorResponseEncoder(final int aCacheSize) {
+        if (aCacheSize < 0) {
+            throw new IllegalArgumentException("cacheSize should not be negative");
+        }
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, byte[]> eldest) {
+                return size() > aCacheSize;
+            }
+        };
+    }
+
+    public static ErrorResponseEncoder create() {
+        return new ErrorResponseEncoder(DEFAULT_CACHE_SIZE);
+    }
+
+    public static ErrorResponseEncoder create(final int aCacheSize) {
+        return new ErrorResponseEncoder(aCacheSize);
+    }
+
+    /**
+     * Maps the known exceptions to their HTTP status.
+     *
+     * @param aThrowable the exception to map
+     * @return the status, or empty when the exception is not one of the lib exceptions
+     */
+    public Optional<HttpStatusCode> statusOf(final Throwable aThrowable) {
+        if (aThrowable instanceof ValidationException) {
+            return Optional.of(HttpStatus.BAD_REQUEST);
+        }
+        if (aThrowable instanceof DomainException) {
+            return Optional.of(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+        if (aThrowable instanceof NotFoundException) {
+            return Optional.of(HttpStatus.NOT_FOUND);
+        }
+        if (aThrowable instanceof ForbiddenException) {
+            return Optional.of(HttpStatus.FORBIDDEN);
+        }
+        if (aThrowable instanceof UnauthorizedException) {
+            return Optional.of(HttpStatus.UNAUTHORIZED);
+        }
+        if (aThrowable instanceof ConflictException) {
+            return Optional.of(HttpStatus.CONFLICT);
+        }
+        if (aThrowable instanceof InternalErrorException ex) {
+            final var aStatusCode = ex.getStatusCode();
+            return Optional.of(aStatusCode >= 400 && aStatusCode < 600
+                    ? HttpStatusCode.valueOf(aStatusCode)
+                    : HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param aThrowable     the exception to encode
+     * @param aBufferFactory the factory of the response, {@code exchange.getResponse().bufferFactory()}
+     * @return the JSON body
+     */
+    public DataBuffer encode(final Throwable aThrowable, final DataBufferFactory aBufferFactory) {
+        final var aStatus = statusOf(aThrowable).orElse(HttpStatus.INTERNAL_SERVER_ERROR);
+        if (aThrowable instanceof InternalErrorException || aStatus.is5xxServerError()) {
+            return aBufferFactory.wrap(cachedBody(genericMessage(aStatus)));
+        }
+
+        final var aMessage = aThrowable.getMessage();
+        final var aErrors = aThrowable instanceof DomainException ex ? ex.getErrors() : null;
+        if (aErrors == null || aErrors.isEmpty()) {
+            final var aPreallocated = aThrowable instanceof NoStacktraceException ex && ex.isPreallocated();
+            return aBufferFactory.wrap(aPreallocated ? cachedBody(aMessage) : encodeBody(aMessage));
+        }
+
+        final var aBuffer = aBufferFactory.allocateBuffer(INITIAL_CAPACITY);
+        try (final var aOutput = aBuffer.asOutputStream()) {
+            writeBody(aOutput, aMessage, aErrors);
+            return aBuffer;
+        } catch (final IOException e) {
+            DataBufferUtils.release(aBuffer);
+            throw new UncheckedIOException(e);
+        } catch (final RuntimeException e) {
+            DataBufferUtils.release(aBuffer);
+            throw e;
+        }
+    }
+
+    private static String genericMessage(final HttpStatusCode aStatus) {
+        final var aKnown = HttpStatus.resolve(aStatus.value());
+        return aKnown != null ? aKnown.getReasonPhrase() : HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase();
+    }
+
+    private byte[] cachedBody(final String aMessage) {
+        if (aMessage == null) {
+            return encodeBody(null);
+        }
+
+        this.lock.lock();
+        try {
+            final var aCached = this.cache.get(aMessage);
+            if (aCached != null) {
+                return aCached;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        final var aBody = encodeBody(aMessage);
+        this.lock.lock();
+        try {
+            this.cache.putIfAbsent(aMessage, aBody);
+        } finally {
+            this.lock.unlock();
+        }
+        return aBody;
+    }
+
+    int cachedBodies() {
+        this.lock.lock();
+        try {
+            return this.cache.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private static byte[] encodeBody(final String aMessage) {
+        final var aOutput = new ByteArrayOutputStream(INITIAL_CAPACITY);
+        try {
+            writeBody(aOutput, aMessage, List.of());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return aOutput.toByteArray();
+    }
+
+    private static void writeBody(
+            final OutputStream aOutput,
+            final String aMessage,
+            final List<Error> aErrors
+    ) throws IOException {
+        try (final JsonGenerator aGenerator = JSON_FACTORY.createGenerator(aOutput)) {
+            aGenerator.writeStartObject();
+            aGenerator.writeStringField("message", aMessage);
+            aGenerator.writeArrayFieldStart("errors");
+            for (final Error aError : aErrors) {
+                aGenerator.writeStartObject();
+                aGenerator.writeStringField("property", aError.property());
+                aGenerator.writeStringField("message", aError.message());
+                aGenerator.writeEndObject();
+            }
+            aGenerator.writeEndArray();
+            aGenerator.writeEndObject();
+        }
+    }
+}
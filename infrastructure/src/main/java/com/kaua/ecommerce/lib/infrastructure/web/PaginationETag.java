@@ -0,0 +1,93 @@
+package com.kaua.ecommerce.lib.infrastructure.web;
+
+import com.kaua.ecommerce.lib.domain.Entity;
+import com.kaua.ecommerce.lib.domain.pagination.Pagination;
+import com.kaua.ecommerce.lib.domain.pagination.PaginationMetadata;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Computes a weak ETag for a {@link Pagination} from its metadata and the id and version of each item,
+ * without serializing anything. Any change of membership, order, version or totals changes the tag.
+ * <p>The tag is a 64-bit non-cryptographic hash: good to detect changes between polls, not to
+ * protect against crafted collisions.</p>
+ */
+public final class PaginationETag {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long MULTIPLIER = 0xC2B2AE3D27D4EB4FL;
+
+    private PaginationETag() {}
+
+    public static String of(final Pagination<? extends Entity<?>> aPagination) {
+        return of(aPagination, aEntity -> aEntity.getId().value(), Entity::getVersion);
+    }
+
+    /**
+     * @param aPagination the page
+     * @param aId         extracts the identity of an item
+     * @param aVersion    extracts the version of an item
+     * @return the ETag header value, such as {@code W/"5f1d7c2e9a4b3c10"}
+     */
+    public static <T> String of(
+            final Pagination<T> aPagination,
+            final Function<T, ?> aId,
+            final ToLongFunction<T> aVersion
+    ) {
+        var aHash = hashMetadata(aPagination.metadata());
+        for (final T aItem : aPagination.items()) {
+            aHash = mix(aHash, hashValue(aId.apply(aItem)));
+            aHash = mix(aHash, aVersion.applyAsLong(aItem));
+        }
+        return "W/\"" + toHex(finish(aHash)) + "\"";
+    }
+
+    private static long hashMetadata(final PaginationMetadata aMetadata) {
+        var aHash = SEED;
+        aHash = mix(aHash, aMetadata.currentPage());
+        aHash = mix(aHash, aMetadata.perPage());
+        aHash = mix(aHash, aMetadata.totalPages());
+        aHash = mix(aHash, aMetadata.totalItems());
+        aHash = mix(aHash, aMetadata.hasNext() ? 1 : 0);
+        return mix(aHash, aMetadata.accuracy().ordinal());
+    }
+
+    private static long hashValue(final Object aValue) {
+        if (aValue instanceof String aString) {
+            var aHash = SEED;
+            for (int i = 0; i < aString.length(); i++) {
+                aHash = (aHash ^ aString.charAt(i)) * 0x100000001B3L;
+            }
+            return aHash;
+        }
+        if (aValue instanceof UUID aUuid) {
+            return mix(aUuid.getMostSignificantBits(), aUuid.getLeastSignificantBits());
+        }
+        if (aValue instanceof Number aNumber) {
+            return aNumber.longValue();
+        }
+        return Objects.hashCode(aValue);
+    }
+
+    private static long mix(final long aHash, final long aValue) {
+        return Long.rotateLeft(aHash ^ (aValue * MULTIPLIER), 31) * SEED;
+    }
+
+    // murmur3 fmix64 avalanche
+    private static long finish(long aHash) {
+        aHash ^= aHash >>> 33;
+        aHash *= 0xFF51AFD7ED558CCDL;
+        aHash ^= aHash >>> 33;
+        aHash *= 0xC4CEB9FE1A85EC53L;
+        aHash ^= aHash >>> 33;
+        return aHash;
+    }
+
+    private static String toHex(final long aValue) {
+        final var aHex = Long.toHexString(aValue);
+        return "0".repeat(16 - aHex.length()) + aHex;
+    }
+}
@@ -0,0 +1,227 @@
+package com.kaua.ecommerce.lib.infrastructure.export;
+
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import com.kaua.ecommerce.lib.domain.pagination.Pagination;
+import com.kaua.ecommerce.lib.domain.pagination.PaginationMetadata;
+import com.kaua.ecommerce.lib.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+public class ExportPipelineTest {
+
+    private static final SearchQuery FIRST_QUERY = new SearchQuery(0, 3, "", "createdAt", "asc");
+    private static final List<Product> PRODUCTS = List.of(
+            new Product("p-0", "Camiseta", 1990),
+            new Product("p-1", "Camiseta, \"Azul\"", 2990),
+            new Product("p-2", "Bermuda\nListrada", null),
+            new Product("p-3", "Boné", 4990),
+            new Product("p-4", "Meia", 990),
+            new Product("p-5", "Tênis", 19990),
+            new Product("p-6", "Jaqueta", 39990)
+    );
+    private static final String EXPECTED_CSV = "id,name,price\r\n"
+            + "p-0,Camiseta,1990\r\n"
+            + "p-1,\"Camiseta, \"\"Azul\"\"\",2990\r\n"
+            + "p-2,\"Bermuda\nListrada\",\r\n"
+            + "p-3,Boné,4990\r\n"
+            + "p-4,Meia,990\r\n"
+            + "p-5,Tênis,19990\r\n"
+            + "p-6,Jaqueta,39990\r\n";
+    private static final String EXPECTED_NDJSON = """
+            {"id":"p-0","name":"Camiseta","price":1990}
+            {"id":"p-1","name":"Camiseta, \\"Azul\\"","price":2990}
+            {"id":"p-2","name":"Bermuda\\nListrada","price":null}
+            {"id":"p-3","name":"Boné","price":4990}
+            {"id":"p-4","name":"Meia","price":990}
+            {"id":"p-5","name":"Tênis","price":19990}
+            {"id":"p-6","name":"Jaqueta","price":39990}
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenSeveralPages_whenExportCsv_thenWriteEveryRowAndCountPages() {
+        final var aTarget = this.directory.resolve("products.csv");
+        final var aQueries = new ArrayList<Integer>();
+
+        final var aResult = csv().export(FIRST_QUERY, aQuery -> {
+            aQueries.add(aQuery.page());
+            return page(aQuery);
+        }, aTarget);
+
+        Assertions.assertEquals(EXPECTED_CSV, readString(aTarget));
+        Assertions.assertEquals(new ExportResult(7, 3, size(aTarget)), aResult);
+        Assertions.assertEquals(EXPECTED_CSV.getBytes(StandardCharsets.UTF_8).length, aResult.bytesWritten());
+        Assertions.assertEquals(List.of(0, 1, 2), aQueries);
+    }
+
+    @Test
+    void givenSeveralPages_whenExportGzipCsv_thenWriteCompressedRows() {
+        final var aTarget = this.directory.resolve("products.csv.gz");
+
+        final var aResult = csv().gzip().export(FIRST_QUERY, ExportPipelineTest::page, aTarget);
+
+        Assertions.assertEquals(EXPECTED_CSV, gunzip(aTarget));
+        Assertions.assertEquals(new ExportResult(7, 3, size(aTarget)), aResult);
+    }
+
+    @Test
+    void givenSeveralPages_whenExportNdjson_thenWriteOneObjectPerLine() {
+        final var aTarget = this.directory.resolve("products.ndjson");
+
+        final var aResult = ExportPipeline.<Product>ndjson(Function.identity())
+                .export(FIRST_QUERY, ExportPipelineTest::page, aTarget);
+
+        Assertions.assertEquals(EXPECTED_NDJSON, readString(aTarget));
+        Assertions.assertEquals(new ExportResult(7, 3, size(aTarget)), aResult);
+    }
+
+    @Test
+    void givenSeveralPages_whenExportGzipNdjson_thenWriteCompressedLines() {
+        final var aTarget = this.directory.resolve("products.ndjson.gz");
+
+        final var aResult = ExportPipeline.<Product>ndjson(Function.identity())
+                .gzip()
+                .export(FIRST_QUERY, ExportPipelineTest::page, aTarget);
+
+        Assertions.assertEquals(EXPECTED_NDJSON, gunzip(aTarget));
+        Assertions.assertEquals(new ExportResult(7, 3, size(aTarget)), aResult);
+    }
+
+    @Test
+    void givenAnEmptyPageFlaggedWithNext_whenExport_thenStopFetching() {
+        final var aTarget = this.directory.resolve("empty.csv");
+        final var aQueries = new ArrayList<Integer>();
+
+        final var aResult = csv().export(FIRST_QUERY, aQuery -> {
+            aQueries.add(aQuery.page());
+            return new Pagination<>(
+                    PaginationMetadata.hasNext(aQuery.page(), aQuery.perPage(), true),
+                    aQuery.page() == 0 ? PRODUCTS.subList(0, 3) : List.<Product>of()
+            );
+        }, aTarget);
+
+        Assertions.assertEquals(List.of(0, 1), aQueries);
+        Assertions.assertEquals(3, aResult.rows());
+        Assertions.assertEquals(2, aResult.pages());
+        Assertions.assertEquals(
+                EXPECTED_CSV.substring(0, EXPECTED_CSV.indexOf("p-3")),
+                readString(aTarget)
+        );
+    }
+
+    @Test
+    void givenABufferSmallerThanARow_whenExport_thenSwapBuffersAndKeepTheContent() {
+        final var aTarget = this.directory.resolve("small-buffer.csv");
+
+        final var aResult = csv().bufferSize(4).export(FIRST_QUERY, ExportPipelineTest::page, aTarget);
+
+        Assertions.assertEquals(EXPECTED_CSV, readString(aTarget));
+        Assertions.assertEquals(size(aTarget), aResult.bytesWritten());
+    }
+
+    @Test
+    void givenAFetchFailingOnTheSecondPage_whenExportGzip_thenKeepTheExistingTargetAndLeaveNoPartialFile() throws IOException {
+        final var aTarget = this.directory.resolve("products.csv.gz");
+        Files.writeString(aTarget, "previous export");
+        final var aFailure = new IllegalStateException("database unavailable");
+
+        final var aException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> csv().gzip().export(FIRST_QUERY, aQuery -> {
+                    if (aQuery.page() == 1) {
+                        throw aFailure;
+                    }
+                    return page(aQuery);
+                }, aTarget)
+        );
+
+        Assertions.assertSame(aFailure, aException);
+        Assertions.assertEquals("previous export", readString(aTarget));
+        try (final var aFiles = Files.list(this.directory)) {
+            Assertions.assertEquals(List.of(aTarget), aFiles.toList());
+        }
+    }
+
+    @Test
+    void givenAFetchFailingOnTheSecondPage_whenExportGzipToAChannel_thenDoNotWriteTheGzipTrailer() throws IOException {
+        final var aTarget = this.directory.resolve("partial.csv.gz");
+
+        try (final var aChannel = FileChannel.open(aTarget, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            Assertions.assertThrows(IllegalStateException.class, () -> csv().gzip().export(FIRST_QUERY, aQuery -> {
+                if (aQuery.page() == 1) {
+                    throw new IllegalStateException("database unavailable");
+                }
+                return page(aQuery);
+            }, aChannel));
+        }
+
+        Assertions.assertThrows(UncheckedIOException.class, () -> gunzip(aTarget));
+    }
+
+    @Test
+    void givenANonPositiveBufferSize_whenBufferSize_thenThrowValidationException() {
+        final var aException = Assertions.assertThrows(ValidationException.class, () -> csv().bufferSize(0));
+
+        Assertions.assertEquals("bufferSize", aException.getErrors().get(0).property());
+        Assertions.assertThrows(ValidationException.class, () -> csv().bufferSize(-1));
+    }
+
+    private static ExportPipeline<Product> csv() {
+        return ExportPipeline.csv(
+                List.of("id", "name", "price"),
+                aProduct -> Arrays.asList(aProduct.id(), aProduct.name(), aProduct.price())
+        );
+    }
+
+    private static Pagination<Product> page(final SearchQuery aQuery) {
+        final var aFrom = Math.min(PRODUCTS.size(), aQuery.page() * aQuery.perPage());
+        final var aTo = Math.min(PRODUCTS.size(), aFrom + aQuery.perPage());
+        return new Pagination<>(
+                PaginationMetadata.exact(aQuery.page(), aQuery.perPage(), PRODUCTS.size()),
+                PRODUCTS.subList(aFrom, aTo)
+        );
+    }
+
+    private static String readString(final Path aPath) {
+        try {
+            return Files.readString(aPath);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String gunzip(final Path aPath) {
+        try (final var aInput = new GZIPInputStream(Files.newInputStream(aPath))) {
+            return new String(aInput.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long size(final Path aPath) {
+        try {
+            return Files.size(aPath);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record Product(String id, String name, Integer price) {
+    }
+}
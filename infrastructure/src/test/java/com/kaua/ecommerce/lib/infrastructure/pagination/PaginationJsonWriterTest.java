@@ -0,0 +1,122 @@
+package com.kaua.ecommerce.lib.infrastructure.pagination;
+
+import com.kaua.ecommerce.lib.domain.pagination.Pagination;
+import com.kaua.ecommerce.lib.domain.pagination.PaginationMetadata;
+import com.kaua.ecommerce.lib.infrastructure.configurations.json.Json;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class PaginationJsonWriterTest {
+
+    @Test
+    void givenAPage_whenWriteToOutputStream_thenWriteSameJsonAsTheMapper() {
+        final var aPage = page(10);
+        final var aOutput = new ByteArrayOutputStream();
+
+        PaginationJsonWriter.write(aPage, aOutput);
+
+        Assertions.assertEquals(Json.writeValueAsString(aPage), aOutput.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void givenAnEmptyPage_whenWrite_thenWriteSameJsonAsTheMapper() {
+        final var aPage = page(0);
+        final var aOutput = new ByteArrayOutputStream();
+
+        PaginationJsonWriter.write(aPage, aOutput);
+        final var aChunks = chunks(PaginationJsonWriter.write(aPage, DefaultDataBufferFactory.sharedInstance));
+
+        Assertions.assertEquals(Json.writeValueAsString(aPage), aOutput.toString(StandardCharsets.UTF_8));
+        Assertions.assertEquals(Json.writeValueAsString(aPage), String.join("", aChunks));
+        Assertions.assertEquals(2, aChunks.size());
+    }
+
+    @Test
+    void givenAPageSpanningSeveralChunks_whenWriteToBuffers_thenEmitMetadataFirstAndJoinToTheMapperJson() {
+        final var aPage = page(10);
+
+        final var aChunks = chunks(PaginationJsonWriter.write(
+                aPage.metadata(),
+                Flux.fromIterable(aPage.items()),
+                DefaultDataBufferFactory.sharedInstance,
+                3
+        ));
+
+        Assertions.assertEquals(Json.writeValueAsString(aPage), String.join("", aChunks));
+        // metadata, 4 chunks of at most 3 items, closing brackets
+        Assertions.assertEquals(6, aChunks.size());
+        Assertions.assertEquals(
+                "{\"metadata\":" + Json.writeValueAsString(aPage.metadata()) + ",\"items\":[",
+                aChunks.get(0)
+        );
+        Assertions.assertEquals("]}", aChunks.get(5));
+    }
+
+    @Test
+    void givenALazilyMappedPage_whenWriteToBuffers_thenWriteTheMappedItems() {
+        final var aPage = page(5);
+        final var aMapped = aPage.mapLazy(Product::name);
+
+        final var aChunks = chunks(PaginationJsonWriter.write(aMapped, DefaultDataBufferFactory.sharedInstance));
+
+        Assertions.assertEquals(Json.writeValueAsString(aPage.map(Product::name)), String.join("", aChunks));
+    }
+
+    @Test
+    void givenAnItemThatFailsToSerialize_whenWriteToOutputStream_thenLeaveTheJsonUnterminated() {
+        final var aPage = new Pagination<>(
+                PaginationMetadata.exact(0, 20, 2),
+                List.of(new BrokenProduct("id-0", false), new BrokenProduct("id-1", true))
+        );
+        final var aOutput = new ByteArrayOutputStream();
+
+        Assertions.assertThrows(UncheckedIOException.class, () -> PaginationJsonWriter.write(aPage, aOutput));
+
+        final var aJson = aOutput.toString(StandardCharsets.UTF_8);
+        Assertions.assertTrue(aJson.contains("\"id\":\"id-1\""), aJson);
+        Assertions.assertFalse(aJson.endsWith("]}"), aJson);
+        Assertions.assertThrows(Exception.class, () -> Json.mapper().readTree(aJson));
+    }
+
+    private static List<String> chunks(final Flux<DataBuffer> aBuffers) {
+        return aBuffers.map(aBuffer -> {
+            try {
+                return aBuffer.toString(StandardCharsets.UTF_8);
+            } finally {
+                DataBufferUtils.release(aBuffer);
+            }
+        }).collectList().block();
+    }
+
+    private static Pagination<Product> page(final int aSize) {
+        return new Pagination<>(
+                PaginationMetadata.exact(0, 20, aSize),
+                IntStream.range(0, aSize)
+                        .mapToObj(i -> new Product("id-" + i, "Camiseta \"" + i + "\"", 1990 + i))
+                        .toList()
+        );
+    }
+
+    public record Product(String id, String name, int priceInCents) {
+    }
+
+    public record BrokenProduct(String id, boolean broken) {
+
+        public String getName() {
+            if (broken) {
+                throw new IllegalStateException("name is not available");
+            }
+            return id;
+        }
+    }
+}
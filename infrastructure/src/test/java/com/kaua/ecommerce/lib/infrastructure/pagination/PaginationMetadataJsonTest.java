@@ -0,0 +1,35 @@
+package com.kaua.ecommerce.lib.infrastructure.pagination;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.kaua.ecommerce.lib.domain.pagination.Pagination;
+import com.kaua.ecommerce.lib.domain.pagination.PaginationMetadata;
+import com.kaua.ecommerce.lib.infrastructure.configurations.json.Json;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class PaginationMetadataJsonTest {
+
+    @Test
+    void givenTheShapeWithoutHasNextAndAccuracy_whenRead_thenDefaultToExactTotals() {
+        final var aJson = "{\"metadata\":{\"current_page\":1,\"per_page\":10,\"total_pages\":3,\"total_items\":25},"
+                + "\"items\":[\"a\"]}";
+
+        final var aPage = Json.readValue(aJson, new TypeReference<Pagination<String>>() {});
+
+        Assertions.assertEquals(PaginationMetadata.Accuracy.EXACT, aPage.metadata().accuracy());
+        Assertions.assertTrue(aPage.metadata().isExact());
+        Assertions.assertTrue(aPage.metadata().hasNext());
+        Assertions.assertEquals(List.of("a"), aPage.items());
+    }
+
+    @Test
+    void givenCountFreeMetadata_whenWriteAndRead_thenKeepHasNextAndAccuracy() {
+        final var aMetadata = PaginationMetadata.hasNext(0, 10, true);
+
+        final var aRead = Json.readValue(Json.writeValueAsString(aMetadata), PaginationMetadata.class);
+
+        Assertions.assertEquals(aMetadata, aRead);
+    }
+}
@@ -0,0 +1,136 @@
+package com.kaua.ecommerce.lib.infrastructure.pagination;
+
+import com.kaua.ecommerce.lib.domain.pagination.Pagination;
+import com.kaua.ecommerce.lib.domain.pagination.PaginationMetadata;
+import com.kaua.ecommerce.lib.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class PaginationStreamsTest {
+
+    private static final SearchQuery FIRST_QUERY = new SearchQuery(0, 3, "", "createdAt", "asc");
+
+    @Test
+    void givenSeveralPages_whenStream_thenEmitItemsInOrderAndStopAtTheLastPage() {
+        final var aPages = new CopyOnWriteArrayList<Integer>();
+
+        StepVerifier.create(PaginationStreams.stream(FIRST_QUERY, aQuery -> {
+                    aPages.add(aQuery.page());
+                    return Mono.just(page(aQuery, 8));
+                }))
+                .expectNext(0, 1, 2, 3, 4, 5, 6, 7)
+                .verifyComplete();
+
+        Assertions.assertEquals(List.of(0, 1, 2), aPages);
+    }
+
+    @Test
+    void givenAPageWithoutNext_whenStream_thenStopFetching() {
+        final var aFetches = new AtomicInteger();
+
+        StepVerifier.create(PaginationStreams.stream(FIRST_QUERY, aQuery -> {
+                    aFetches.incrementAndGet();
+                    return Mono.just(new Pagination<>(
+                            PaginationMetadata.hasNext(aQuery.page(), aQuery.perPage(), aQuery.page() < 1),
+                            List.of(aQuery.page())
+                    ));
+                }))
+                .expectNext(0, 1)
+                .verifyComplete();
+
+        Assertions.assertEquals(2, aFetches.get());
+    }
+
+    @Test
+    void givenAnEmptyPageFlaggedWithNext_whenStream_thenStopFetching() {
+        final var aFetches = new AtomicInteger();
+
+        StepVerifier.create(PaginationStreams.stream(FIRST_QUERY, aQuery -> {
+                    aFetches.incrementAndGet();
+                    return Mono.just(new Pagination<>(
+                            PaginationMetadata.hasNext(aQuery.page(), aQuery.perPage(), true),
+                            aQuery.page() == 0 ? List.of(1, 2, 3) : List.<Integer>of()
+                    ));
+                }))
+                .expectNext(1, 2, 3)
+                .verifyComplete();
+
+        Assertions.assertEquals(2, aFetches.get());
+    }
+
+    @Test
+    void givenACancelledSubscription_whenStream_thenStopFetchingFurtherPages() {
+        final var aFetches = new AtomicInteger();
+
+        StepVerifier.create(PaginationStreams.stream(FIRST_QUERY, aQuery -> {
+                    aFetches.incrementAndGet();
+                    return Mono.just(page(aQuery, 300));
+                }))
+                .expectNext(0, 1, 2, 3)
+                .thenCancel()
+                .verify();
+
+        Assertions.assertTrue(aFetches.get() <= 2 + PaginationStreams.DEFAULT_PREFETCH_PAGES, "fetched " + aFetches.get());
+    }
+
+    @Test
+    void givenASlowConsumer_whenStream_thenBufferAtMostThePrefetchedPages() {
+        final var aFetches = new AtomicInteger();
+
+        StepVerifier.create(PaginationStreams.stream(FIRST_QUERY, aQuery -> {
+                    aFetches.incrementAndGet();
+                    return Mono.just(page(aQuery, 300));
+                }, 2), 1)
+                .expectNext(0)
+                .expectNoEvent(Duration.ofMillis(50))
+                .then(() -> Assertions.assertTrue(aFetches.get() <= 1 + 2, "fetched " + aFetches.get()))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void givenABlockingGateway_whenPublisher_thenEmitEveryItemThroughTheFlowAdapter() {
+        final var aPublisher = PaginationStreams.publisher(FIRST_QUERY, aQuery -> page(aQuery, 5));
+
+        StepVerifier.create(JdkFlowAdapter.flowPublisherToFlux(aPublisher))
+                .expectNext(0, 1, 2, 3, 4)
+                .verifyComplete();
+    }
+
+    @Test
+    void givenABlockingGateway_whenStreamBlocking_thenFetchOnTheScheduler() {
+        final var aThreads = new CopyOnWriteArrayList<String>();
+        final var aScheduler = Schedulers.newSingle("pages");
+        try {
+            StepVerifier.create(PaginationStreams.streamBlocking(FIRST_QUERY, aQuery -> {
+                        aThreads.add(Thread.currentThread().getName());
+                        return page(aQuery, 4);
+                    }, aScheduler))
+                    .expectNext(0, 1, 2, 3)
+                    .verifyComplete();
+
+            Assertions.assertTrue(aThreads.stream().allMatch(it -> it.startsWith("pages")), aThreads.toString());
+        } finally {
+            aScheduler.dispose();
+        }
+    }
+
+    private static Pagination<Integer> page(final SearchQuery aQuery, final int aTotal) {
+        final var aFrom = Math.min(aTotal, aQuery.page() * aQuery.perPage());
+        final var aTo = Math.min(aTotal, aFrom + aQuery.perPage());
+        return new Pagination<>(
+                PaginationMetadata.exact(aQuery.page(), aQuery.perPage(), aTotal),
+                IntStream.range(aFrom, aTo).boxed().toList()
+        );
+    }
+}
@@ -0,0 +1,120 @@
+package com.kaua.ecommerce.lib.infrastructure.web;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConditionalGetWebFilterTest {
+
+    private static final String ETAG = "W/\"00000000000000ff\"";
+    private static final String BODY = "{\"items\":[]}";
+
+    private final ConditionalGetWebFilter filter = new ConditionalGetWebFilter();
+    private final AtomicBoolean bodySubscribed = new AtomicBoolean();
+
+    @Test
+    void givenAMatchingIfNoneMatch_whenFilter_thenAnswerNotModifiedWithoutWritingTheBody() {
+        final var aExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/products")
+                .ifNoneMatch("\"00000000000000ff\""));
+
+        this.filter.filter(aExchange, exchange -> writePage(exchange, HttpStatus.OK)).block();
+
+        final var aResponse = aExchange.getResponse();
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, aResponse.getStatusCode());
+        Assertions.assertEquals(ETAG, aResponse.getHeaders().getETag());
+        Assertions.assertNull(aResponse.getHeaders().getContentType());
+        StepVerifier.create(aResponse.getBody()).verifyComplete();
+    }
+
+    @Test
+    void givenAWildcardIfNoneMatch_whenFilter_thenAnswerNotModified() {
+        final var aExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/products").ifNoneMatch("*"));
+
+        this.filter.filter(aExchange, exchange -> writePage(exchange, HttpStatus.OK)).block();
+
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, aExchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void givenAnAllocatedBody_whenFilterAnswersNotModified_thenReleaseTheBuffers() {
+        final var aFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+        final var aBuffer = aFactory.allocateBuffer(BODY.length()).write(BODY, StandardCharsets.UTF_8);
+        final var aFlushedBuffer = aFactory.allocateBuffer(BODY.length()).write(BODY, StandardCharsets.UTF_8);
+        final var aExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/products").ifNoneMatch(ETAG));
+        final var aOtherExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/products").ifNoneMatch(ETAG));
+
+        this.filter.filter(aExchange, exchange -> {
+            exchange.getResponse().getHeaders().setETag(ETAG);
+            return exchange.getResponse().writeWith(Mono.just(aBuffer));
+        }).block();
+        this.filter.filter(aOtherExchange, exchange -> {
+            exchange.getResponse().getHeaders().setETag(ETAG);
+            return exchange.getResponse().writeAndFlushWith(Flux.just(Mono.just(aFlushedBuffer)));
+        }).block();
+
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, aExchange.getResponse().getStatusCode());
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, aOtherExchange.getResponse().getStatusCode());
+        Assertions.assertEquals(0, ((NettyDataBuffer) aBuffer).getNativeBuffer().refCnt());
+        Assertions.assertEquals(0, ((NettyDataBuffer) aFlushedBuffer).getNativeBuffer().refCnt());
+    }
+
+    @Test
+    void givenAnotherETag_whenFilter_thenWriteTheBody() {
+        final var aExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/products")
+                .ifNoneMatch("W/\"0000000000000001\""));
+
+        this.filter.filter(aExchange, exchange -> writePage(exchange, HttpStatus.OK)).block();
+
+        assertBodyWritten(aExchange, HttpStatus.OK);
+    }
+
+    @Test
+    void givenANonGetMethod_whenFilter_thenWriteTheBody() {
+        final var aExchange = MockServerWebExchange.from(MockServerHttpRequest.post("/products").ifNoneMatch(ETAG));
+
+        this.filter.filter(aExchange, exchange -> writePage(exchange, HttpStatus.OK)).block();
+
+        assertBodyWritten(aExchange, HttpStatus.OK);
+    }
+
+    @Test
+    void givenANonOkStatus_whenFilter_thenWriteTheBody() {
+        final var aExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/products").ifNoneMatch(ETAG));
+
+        this.filter.filter(aExchange, exchange -> writePage(exchange, HttpStatus.NOT_FOUND)).block();
+
+        assertBodyWritten(aExchange, HttpStatus.NOT_FOUND);
+    }
+
+    private void assertBodyWritten(final MockServerWebExchange aExchange, final HttpStatus aStatus) {
+        final var aResponse = aExchange.getResponse();
+        Assertions.assertEquals(aStatus, aResponse.getStatusCode());
+        Assertions.assertEquals(ETAG, aResponse.getHeaders().getETag());
+        Assertions.assertTrue(this.bodySubscribed.get());
+        Assertions.assertEquals(BODY, aResponse.getBodyAsString().block());
+    }
+
+    private Mono<Void> writePage(final ServerWebExchange aExchange, final HttpStatus aStatus) {
+        final var aResponse = aExchange.getResponse();
+        aResponse.setStatusCode(aStatus);
+        aResponse.getHeaders().setETag(ETAG);
+        aResponse.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return aResponse.writeWith(Mono.fromSupplier(() -> {
+            this.bodySubscribed.set(true);
+            return aResponse.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8));
+        }));
+    }
+}
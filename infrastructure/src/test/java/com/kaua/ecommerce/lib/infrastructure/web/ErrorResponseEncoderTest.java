@@ -0,0 +1,103 @@
+package com.kaua.ecommerce.lib.infrastructure.web;
+
+import com.kaua.ecommerce.lib.domain.exceptions.DomainException;
+import com.kaua.ecommerce.lib.domain.exceptions.InternalErrorException;
+import com.kaua.ecommerce.lib.domain.exceptions.NotFoundException;
+import com.kaua.ecommerce.lib.domain.exceptions.ValidationException;
+import com.kaua.ecommerce.lib.domain.validation.Error;
+import com.kaua.ecommerce.lib.infrastructure.configurations.json.Json;
+import com.kaua.ecommerce.lib.infrastructure.exceptions.ForbiddenException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+public class ErrorResponseEncoderTest {
+
+    private final ErrorResponseEncoder encoder = ErrorResponseEncoder.create(2);
+
+    @Test
+    void givenAValidationException_whenEncode_thenWriteMessageAndErrors() {
+        final var aException = ValidationException.with(List.of(
+                new Error("name", "should not be null"),
+                new Error("price", "should be \"positive\"")
+        ));
+
+        final var aBody = read(this.encoder.encode(aException, DefaultDataBufferFactory.sharedInstance));
+
+        Assertions.assertEquals(
+                "{\"message\":\"ValidationException\",\"errors\":["
+                        + "{\"property\":\"name\",\"message\":\"should not be null\"},"
+                        + "{\"property\":\"price\",\"message\":\"should be \\\"positive\\\"\"}]}",
+                aBody
+        );
+        Assertions.assertEquals("ValidationException", Json.readValue(aBody, Map.class).get("message"));
+    }
+
+    @Test
+    void givenAnExceptionWithoutErrors_whenEncode_thenWriteMessageWithoutCaching() {
+        final var aFirst = read(this.encoder.encode(
+                NotFoundException.with("Product with id 123 was not found"),
+                DefaultDataBufferFactory.sharedInstance
+        ));
+        read(this.encoder.encode(NotFoundException.with("Product with id 456 was not found"), DefaultDataBufferFactory.sharedInstance));
+
+        Assertions.assertEquals("{\"message\":\"Product with id 123 was not found\",\"errors\":[]}", aFirst);
+        Assertions.assertEquals(0, this.encoder.cachedBodies());
+    }
+
+    @Test
+    void givenPreallocatedExceptions_whenEncode_thenCacheUpToCacheSizeKeepingTheMostRecent() {
+        final var aFirst = NotFoundException.preallocated("Product was not found");
+        final var aSecond = NotFoundException.preallocated("Category was not found");
+        final var aThird = NotFoundException.preallocated("Coupon was not found");
+
+        read(this.encoder.encode(aFirst, DefaultDataBufferFactory.sharedInstance));
+        read(this.encoder.encode(aSecond, DefaultDataBufferFactory.sharedInstance));
+        read(this.encoder.encode(aThird, DefaultDataBufferFactory.sharedInstance));
+        final var aBody = read(this.encoder.encode(aThird, DefaultDataBufferFactory.sharedInstance));
+
+        Assertions.assertEquals("{\"message\":\"Coupon was not found\",\"errors\":[]}", aBody);
+        Assertions.assertEquals(2, this.encoder.cachedBodies());
+    }
+
+    @Test
+    void givenAnInternalErrorException_whenEncode_thenHideTheMessage() {
+        final var aException = InternalErrorException.with(
+                "Internal error observed from products [status:502] [response:{\"secret\":true}]",
+                502
+        );
+
+        final var aBody = read(this.encoder.encode(aException, DefaultDataBufferFactory.sharedInstance));
+        final var aUnknownBody = read(this.encoder.encode(new IllegalStateException("boom"), DefaultDataBufferFactory.sharedInstance));
+
+        Assertions.assertEquals("{\"message\":\"Bad Gateway\",\"errors\":[]}", aBody);
+        Assertions.assertEquals("{\"message\":\"Internal Server Error\",\"errors\":[]}", aUnknownBody);
+    }
+
+    @Test
+    void givenKnownExceptions_whenStatusOf_thenReturnMappedStatus() {
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, this.encoder.statusOf(ValidationException.with(new Error("a"))).get());
+        Assertions.assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, this.encoder.statusOf(DomainException.with("a")).get());
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, this.encoder.statusOf(NotFoundException.with("a")).get());
+        Assertions.assertEquals(HttpStatus.FORBIDDEN, this.encoder.statusOf(ForbiddenException.with("a")).get());
+        Assertions.assertEquals(HttpStatusCode.valueOf(503), this.encoder.statusOf(InternalErrorException.with("a", 503)).get());
+        Assertions.assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, this.encoder.statusOf(InternalErrorException.with("a")).get());
+        Assertions.assertTrue(this.encoder.statusOf(new IllegalStateException("a")).isEmpty());
+    }
+
+    private static String read(final DataBuffer aBuffer) {
+        try {
+            return aBuffer.toString(StandardCharsets.UTF_8);
+        } finally {
+            DataBufferUtils.release(aBuffer);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.kaua.ecommerce.lib.infrastructure.web;
+
+import com.kaua.ecommerce.lib.domain.pagination.Pagination;
+import com.kaua.ecommerce.lib.domain.pagination.PaginationMetadata;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class PaginationETagTest {
+
+    @Test
+    void givenSamePage_whenComputeETag_thenReturnSameTagAndDetectChanges() {
+        final var aMetadata = PaginationMetadata.exact(0, 10, 2);
+        final var aPage = new Pagination<>(aMetadata, List.of(new Item("a", 1), new Item("b", 1)));
+
+        final var aETag = PaginationETag.of(aPage, Item::id, Item::version);
+
+        Assertions.assertTrue(aETag.matches("W/\"[0-9a-f]{16}\""), aETag);
+        Assertions.assertEquals(aETag, PaginationETag.of(
+                new Pagination<>(aMetadata, List.of(new Item("a", 1), new Item("b", 1))), Item::id, Item::version));
+        Assertions.assertNotEquals(aETag, PaginationETag.of(
+                new Pagination<>(aMetadata, List.of(new Item("a", 1), new Item("b", 2))), Item::id, Item::version));
+        Assertions.assertNotEquals(aETag, PaginationETag.of(
+                new Pagination<>(aMetadata, List.of(new Item("b", 1), new Item("a", 1))), Item::id, Item::version));
+        Assertions.assertNotEquals(aETag, PaginationETag.of(
+                new Pagination<>(PaginationMetadata.exact(0, 10, 3), aPage.items()), Item::id, Item::version));
+    }
+
+    @Test
+    void givenIfNoneMatchValues_whenMatches_thenUseWeakComparison() {
+        Assertions.assertTrue(ConditionalGetWebFilter.matches("\"abc\"", "W/\"abc\""));
+        Assertions.assertTrue(ConditionalGetWebFilter.matches("W/\"xyz\", W/\"abc\"", "W/\"abc\""));
+        Assertions.assertTrue(ConditionalGetWebFilter.matches("*", "W/\"abc\""));
+        Assertions.assertFalse(ConditionalGetWebFilter.matches("W/\"xyz\"", "W/\"abc\""));
+        Assertions.assertFalse(ConditionalGetWebFilter.matches("W/\"xyz\"", null));
+    }
+
+    private record Item(String id, long version) {
+    }
+}
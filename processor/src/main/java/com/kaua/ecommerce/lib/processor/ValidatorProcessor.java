@@ -0,0 +1,268 @@
+package com.kaua.ecommerce.lib.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Generates a straight-line {@code <RecordName>Validator} for every record annotated with
+ * {@code @ValidatedRecord}. Annotation types are referenced by name so the processor
+ * does not need the domain module on its own classpath.
+ */
+@SupportedAnnotationTypes(ValidatorProcessor.VALIDATED_RECORD)
+public class ValidatorProcessor extends AbstractProcessor {
+
+    static final String ANNOTATIONS_PACKAGE = "com.kaua.ecommerce.lib.domain.validation.annotations";
+    static final String VALIDATED_RECORD = ANNOTATIONS_PACKAGE + ".ValidatedRecord";
+
+    private static final String NOT_NULL = ANNOTATIONS_PACKAGE + ".NotNull";
+    private static final String NOT_EMPTY = ANNOTATIONS_PACKAGE + ".NotEmpty";
+    private static final String MIN_LENGTH = ANNOTATIONS_PACKAGE + ".MinLength";
+    private static final String MAX_LENGTH = ANNOTATIONS_PACKAGE + ".MaxLength";
+    private static final String PATTERN = ANNOTATIONS_PACKAGE + ".Pattern";
+    private static final String CPF = ANNOTATIONS_PACKAGE + ".Cpf";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final var aValidatedRecord = processingEnv.getElementUtils().getTypeElement(VALIDATED_RECORD);
+        if (aValidatedRecord == null) {
+            return false;
+        }
+
+        for (final Element aElement : roundEnv.getElementsAnnotatedWith(aValidatedRecord)) {
+            if (aElement.getKind() != ElementKind.RECORD) {
+                error(aElement, "@ValidatedRecord can only be applied to records");
+                continue;
+            }
+
+            final var aRecord = (TypeElement) aElement;
+            if (aRecord.getModifiers().contains(Modifier.PRIVATE) || !aRecord.getTypeParameters().isEmpty()) {
+                error(aElement, "@ValidatedRecord records must not be private or generic");
+                continue;
+            }
+
+            try {
+                generate(aRecord);
+            } catch (final IOException e) {
+                error(aElement, "Could not generate validator: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generate(final TypeElement aRecord) throws IOException {
+        final var aPackage = packageOf(aRecord);
+        final var aValidatorName = validatorName(aRecord);
+        final var aQualifiedName = aPackage.isEmpty() ? aValidatorName : aPackage + "." + aValidatorName;
+
+        final var aPatterns = new ArrayList<String>();
+        final var aBody = new StringBuilder();
+
+        for (final RecordComponentElement aComponent : aRecord.getRecordComponents()) {
+            final var aChecks = new StringBuilder();
+
+            for (final AnnotationMirror aMirror : aComponent.getAnnotationMirrors()) {
+                final var aType = ((TypeElement) aMirror.getAnnotationType().asElement()).getQualifiedName().toString();
+                final var aValues = valuesOf(aMirror);
+
+                final String aCondition = switch (aType) {
+                    case NOT_NULL -> notNullCondition(aComponent);
+                    case NOT_EMPTY -> notEmptyCondition(aComponent);
+                    case MIN_LENGTH -> requireString(aComponent, aMirror)
+                            ? "v != null && v.length() < " + aValues.get("value").getValue()
+                            : null;
+                    case MAX_LENGTH -> requireString(aComponent, aMirror)
+                            ? "v != null && v.length() > " + aValues.get("value").getValue()
+                            : null;
+                    case PATTERN -> requireString(aComponent, aMirror)
+                            ? patternCondition(aComponent, aMirror, aValues, aPatterns)
+                            : null;
+                    case CPF -> requireString(aComponent, aMirror)
+                            ? "v != null && !com.kaua.ecommerce.lib.domain.utils.CpfUtils.validateCpf(v)"
+                            : null;
+                    default -> null;
+                };
+
+                if (aCondition == null) {
+                    continue;
+                }
+
+                aChecks.append("            if (").append(aCondition).append(") {\n")
+                        .append("                aHandler.append(new Error(")
+                        .append(literal(propertyOf(aComponent, aValues))).append(", ")
+                        .append(literal(messageOf(aValues))).append("));\n")
+                        .append("            }\n");
+            }
+
+            if (!aChecks.isEmpty()) {
+                aBody.append("        {\n")
+                        .append("            final var v = this.target.")
+                        .append(aComponent.getAccessor().getSimpleName()).append("();\n")
+                        .append(aChecks)
+                        .append("        }\n");
+            }
+        }
+
+        final var aSource = new StringBuilder();
+        if (!aPackage.isEmpty()) {
+            aSource.append("package ").append(aPackage).append(";\n\n");
+        }
+        aSource.append("import com.kaua.ecommerce.lib.domain.validation.Error;\n")
+                .append("import com.kaua.ecommerce.lib.domain.validation.ValidationHandler;\n")
+                .append("import com.kaua.ecommerce.lib.domain.validation.Validator;\n\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(aValidatorName).append(" extends Validator {\n\n");
+
+        for (int i = 0; i < aPatterns.size(); i++) {
+            aSource.append("    private static final java.util.regex.Pattern PATTERN_").append(i)
+                    .append(" = java.util.regex.Pattern.compile(").append(literal(aPatterns.get(i))).append(");\n");
+        }
+        if (!aPatterns.isEmpty()) {
+            aSource.append('\n');
+        }
+
+        final var aRecordType = aRecord.getQualifiedName().toString();
+        aSource.append("    private final ").append(aRecordType).append(" target;\n\n")
+                .append("    public ").append(aValidatorName).append("(final ").append(aRecordType)
+                .append(" aTarget, final ValidationHandler aHandler) {\n")
+                .append("        super(aHandler);\n")
+                .append("        this.target = aTarget;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void validate() {\n")
+                .append("        final var aHandler = validationHandler();\n")
+                .append(aBody)
+                .append("    }\n")
+                .append("}\n");
+
+        final var aFile = processingEnv.getFiler().createSourceFile(aQualifiedName, aRecord);
+        try (Writer aWriter = aFile.openWriter()) {
+            aWriter.write(aSource.toString());
+        }
+    }
+
+    private String notNullCondition(final RecordComponentElement aComponent) {
+        if (aComponent.asType().getKind().isPrimitive()) {
+            error(aComponent, "@NotNull is not supported on primitive components");
+            return null;
+        }
+        return "v == null";
+    }
+
+    private String notEmptyCondition(final RecordComponentElement aComponent) {
+        final var aType = aComponent.asType();
+        if (isAssignable(aType, "java.lang.String")) {
+            return "v == null || v.isBlank()";
+        }
+        if (isAssignable(aType, "java.util.Collection") || isAssignable(aType, "java.util.Map")) {
+            return "v == null || v.isEmpty()";
+        }
+        error(aComponent, "@NotEmpty is only supported on String, Collection and Map components");
+        return null;
+    }
+
+    private String patternCondition(
+            final RecordComponentElement aComponent,
+            final AnnotationMirror aMirror,
+            final Map<String, AnnotationValue> aValues,
+            final List<String> aPatterns
+    ) {
+        final var aRegex = (String) aValues.get("regexp").getValue();
+        try {
+            java.util.regex.Pattern.compile(aRegex);
+        } catch (final PatternSyntaxException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Invalid regexp: " + e.getDescription(), aComponent, aMirror);
+            return null;
+        }
+
+        var aIndex = aPatterns.indexOf(aRegex);
+        if (aIndex < 0) {
+            aIndex = aPatterns.size();
+            aPatterns.add(aRegex);
+        }
+        return "v != null && !PATTERN_" + aIndex + ".matcher(v).matches()";
+    }
+
+    private boolean requireString(final RecordComponentElement aComponent, final AnnotationMirror aMirror) {
+        if (isAssignable(aComponent.asType(), "java.lang.String")) {
+            return true;
+        }
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "@" + aMirror.getAnnotationType().asElement().getSimpleName()
+                        + " is only supported on String components", aComponent, aMirror);
+        return false;
+    }
+
+    private boolean isAssignable(final TypeMirror aType, final String aTarget) {
+        final var aTypes = processingEnv.getTypeUtils();
+        final var aTargetElement = processingEnv.getElementUtils().getTypeElement(aTarget);
+        return aTargetElement != null
+                && aTypes.isAssignable(aTypes.erasure(aType), aTypes.erasure(aTargetElement.asType()));
+    }
+
+    private Map<String, AnnotationValue> valuesOf(final AnnotationMirror aMirror) {
+        final var aValues = new java.util.HashMap<String, AnnotationValue>();
+        processingEnv.getElementUtils().getElementValuesWithDefaults(aMirror)
+                .forEach((ExecutableElement k, AnnotationValue v) -> aValues.put(k.getSimpleName().toString(), v));
+        return aValues;
+    }
+
+    private static String propertyOf(final RecordComponentElement aComponent, final Map<String, AnnotationValue> aValues) {
+        final var aProperty = (String) aValues.get("property").getValue();
+        return aProperty.isEmpty() ? aComponent.getSimpleName().toString() : aProperty;
+    }
+
+    private static String messageOf(final Map<String, AnnotationValue> aValues) {
+        final var aMessage = (String) aValues.get("message").getValue();
+        final var aValue = aValues.get("value");
+        return aValue == null ? aMessage : aMessage.replace("{value}", String.valueOf(aValue.getValue()));
+    }
+
+    private String literal(final String aValue) {
+        return processingEnv.getElementUtils().getConstantExpression(aValue);
+    }
+
+    private String packageOf(final TypeElement aRecord) {
+        final PackageElement aPackage = processingEnv.getElementUtils().getPackageOf(aRecord);
+        return aPackage.isUnnamed() ? "" : aPackage.getQualifiedName().toString();
+    }
+
+    private static String validatorName(final TypeElement aRecord) {
+        final var aName = new StringBuilder(aRecord.getSimpleName());
+        var aEnclosing = aRecord.getEnclosingElement();
+        while (aEnclosing instanceof TypeElement aType) {
+            aName.insert(0, aType.getSimpleName() + "_");
+            aEnclosing = aEnclosing.getEnclosingElement();
+        }
+        return aName.append("Validator").toString();
+    }
+
+    private void error(final Element aElement, final String aMessage) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, aMessage, aElement);
+    }
+}
@@ -0,0 +1,125 @@
+package com.kaua.ecommerce.lib.processor;
+
+import com.kaua.ecommerce.lib.domain.UnitTest;
+import com.kaua.ecommerce.lib.domain.validation.ValidationHandler;
+import com.kaua.ecommerce.lib.domain.validation.Validator;
+import com.kaua.ecommerce.lib.domain.validation.handler.NotificationHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class ValidatorProcessorTest extends UnitTest {
+
+    private static final String CUSTOMER_SOURCE = """
+            package com.acme;
+
+            import com.kaua.ecommerce.lib.domain.validation.annotations.*;
+            import java.util.List;
+
+            @ValidatedRecord
+            public record Customer(
+                    @NotEmpty @MaxLength(5) String name,
+                    @Pattern(regexp = "^[a-z]+@[a-z]+\\\\.com$", property = "mail") String email,
+                    @Cpf String cpf,
+                    @NotEmpty List<String> tags,
+                    @NotNull Integer age
+            ) {
+            }
+            """;
+
+    @Test
+    void givenAValidatedRecord_whenCompile_thenShouldGenerateValidatorThatAccumulatesErrors() throws Exception {
+        final var aOutput = compile("com.acme.Customer", CUSTOMER_SOURCE);
+
+        try (var aLoader = new URLClassLoader(new java.net.URL[]{aOutput.toUri().toURL()}, getClass().getClassLoader())) {
+            final var aRecordClass = aLoader.loadClass("com.acme.Customer");
+            final var aValidatorClass = aLoader.loadClass("com.acme.CustomerValidator");
+
+            final var aInvalid = aRecordClass.getDeclaredConstructors()[0]
+                    .newInstance("too long name", "invalid", "11111111111", List.of(), null);
+            final var aInvalidHandler = NotificationHandler.create();
+            newValidator(aValidatorClass, aRecordClass, aInvalid, aInvalidHandler).validate();
+
+            Assertions.assertEquals(5, aInvalidHandler.getErrors().size());
+            Assertions.assertEquals("name", aInvalidHandler.getErrors().get(0).property());
+            Assertions.assertEquals("should not be greater than 5 characters", aInvalidHandler.getErrors().get(0).message());
+            Assertions.assertEquals("mail", aInvalidHandler.getErrors().get(1).property());
+            Assertions.assertEquals("cpf", aInvalidHandler.getErrors().get(2).property());
+            Assertions.assertEquals("tags", aInvalidHandler.getErrors().get(3).property());
+            Assertions.assertEquals("age", aInvalidHandler.getErrors().get(4).property());
+
+            final var aValid = aRecordClass.getDeclaredConstructors()[0]
+                    .newInstance("kaua", "kaua@test.com", "529.982.247-25", List.of("vip"), 20);
+            final var aValidHandler = NotificationHandler.create();
+            newValidator(aValidatorClass, aRecordClass, aValid, aValidHandler).validate();
+
+            Assertions.assertFalse(aValidHandler.hasError());
+        }
+    }
+
+    @Test
+    void givenAnInvalidAnnotationUsage_whenCompile_thenShouldReportError() {
+        final var aSource = """
+                package com.acme;
+
+                import com.kaua.ecommerce.lib.domain.validation.annotations.*;
+
+                @ValidatedRecord
+                public record Product(@MaxLength(10) int quantity) {
+                }
+                """;
+
+        Assertions.assertThrows(IllegalStateException.class, () -> compile("com.acme.Product", aSource));
+    }
+
+    private static Validator newValidator(
+            final Class<?> aValidatorClass,
+            final Class<?> aRecordClass,
+            final Object aTarget,
+            final ValidationHandler aHandler
+    ) throws ReflectiveOperationException {
+        return (Validator) aValidatorClass.getConstructor(aRecordClass, ValidationHandler.class)
+                .newInstance(aTarget, aHandler);
+    }
+
+    private static Path compile(final String aClassName, final String aSource) throws IOException {
+        final var aOutput = Files.createTempDirectory("validator-processor");
+        final var aCompiler = ToolProvider.getSystemJavaCompiler();
+        final var aDiagnostics = new DiagnosticCollector<JavaFileObject>();
+
+        final var aFile = new SimpleJavaFileObject(
+                URI.create("string:///" + aClassName.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE
+        ) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return aSource;
+            }
+        };
+
+        final var aTask = aCompiler.getTask(
+                null,
+                null,
+                aDiagnostics,
+                List.of("-d", aOutput.toString(), "-classpath", System.getProperty("java.class.path")),
+                null,
+                List.of(aFile)
+        );
+        aTask.setProcessors(List.of(new ValidatorProcessor()));
+
+        if (!aTask.call()) {
+            throw new IllegalStateException(aDiagnostics.getDiagnostics().toString());
+        }
+        return aOutput;
+    }
+}